@@ -0,0 +1,87 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.archive.GameArchiveReader;
+import com.marchex.bowling.archive.GameArchiveWriter;
+import com.marchex.bowling.batch.BatchResult;
+import com.marchex.bowling.batch.BatchScorer;
+import com.marchex.bowling.batch.GameSource;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring a season of one million games with {@link BatchScorer} on pools of 1, 2, 4 and all available threads
+ * ({@code threads = 0}), from arrays and from a memory mapped archive.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchScorerBenchmark {
+    private static final int NUM_GAMES = 1_000_000;
+
+    @Param({"1", "2", "4", "0"})
+    private int threads;
+
+    @Param({"arrays", "archive"})
+    private String source;
+
+    private ForkJoinPool pool;
+    private BatchScorer scorer;
+    private GameSource games;
+    private GameArchiveReader reader;
+    private Path archive;
+
+    @Setup
+    public void setUp() throws IOException, InvalidScoreException, FrameIsFullException {
+        this.pool = new ForkJoinPool(this.threads == 0 ? Runtime.getRuntime().availableProcessors() : this.threads);
+        this.scorer = new BatchScorer(this.pool, 4096);
+
+        final int[][] season = Games.random(42L, NUM_GAMES);
+        if ("archive".equals(this.source)) {
+            this.archive = Files.createTempFile("season", ".bwl");
+            try (GameArchiveWriter writer = new GameArchiveWriter(this.archive)) {
+                for (final int[] game : season) {
+                    writer.write(game, 0, game.length);
+                }
+            }
+            this.reader = new GameArchiveReader(this.archive);
+            this.games = GameSource.of(this.reader);
+        } else {
+            this.games = GameSource.of(season);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.pool.shutdown();
+        if (this.reader != null) {
+            this.reader.close();
+            Files.deleteIfExists(this.archive);
+        }
+    }
+
+    @Benchmark
+    public BatchResult scoreSeason() {
+        return this.scorer.score(this.games);
+    }
+}
@@ -0,0 +1,50 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixing a misread last roll of a game, by taking it back with {@link ScoreBoard#undoLastRoll()} and recording it
+ * again, against rebuilding the score board and replaying every roll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CorrectionBenchmark {
+    private int[] rolls;
+    private ScoreBoard board;
+
+    @Setup
+    public void setUp() throws InvalidScoreException, FrameIsFullException {
+        this.rolls = Games.allSpares();
+        this.board = Games.play(this.rolls);
+    }
+
+    @Benchmark
+    public int undoLastRoll() throws InvalidScoreException, FrameIsFullException {
+        this.board.undoLastRoll();
+        this.board.recordPoints(this.rolls[this.rolls.length - 1]);
+        return this.board.scoreBoardTotal();
+    }
+
+    @Benchmark
+    public int replay() throws InvalidScoreException, FrameIsFullException {
+        return Games.play(this.rolls).scoreBoardTotal();
+    }
+}
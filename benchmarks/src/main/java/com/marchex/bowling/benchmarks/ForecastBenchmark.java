@@ -0,0 +1,118 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardSnapshot;
+import com.marchex.bowling.batch.GameSource;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import com.marchex.bowling.forecast.OutcomeEngine;
+import com.marchex.bowling.forecast.PinFallModel;
+import com.marchex.bowling.forecast.ScoreDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The final score distribution of games in progress, from an {@link OutcomeEngine} against a Monte Carlo simulation
+ * playing the rest of the game a thousand times with the same {@link PinFallModel}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ForecastBenchmark {
+    private static final int NUM_GAMES = 256;
+    private static final int NUM_PLAYOUTS = 1000;
+
+    private PinFallModel model;
+    private OutcomeEngine engine;
+    private ScoreBoardSnapshot[] snapshots;
+    private int[][] rolls;
+    private Random random;
+    private int gameIndex;
+
+    @Setup
+    public void setUp() throws InvalidScoreException, FrameIsFullException {
+        this.random = new Random(42L);
+        final int[][] games = Games.random(42L, NUM_GAMES);
+        this.model = PinFallModel.fit(GameSource.of(games));
+        this.engine = new OutcomeEngine(this.model);
+        this.snapshots = new ScoreBoardSnapshot[NUM_GAMES];
+        this.rolls = new int[NUM_GAMES][];
+
+        for (int i = 0; i < NUM_GAMES; i++) {
+            this.rolls[i] = Arrays.copyOf(games[i], this.random.nextInt(games[i].length));
+            this.snapshots[i] = Games.play(this.rolls[i]).snapshot();
+        }
+    }
+
+    @Benchmark
+    public OutcomeEngine buildEngine() {
+        return new OutcomeEngine(this.model);
+    }
+
+    @Benchmark
+    public ScoreDistribution engine() {
+        final ScoreBoardSnapshot snapshot = this.snapshots[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (NUM_GAMES - 1);
+        return this.engine.finalScore(snapshot);
+    }
+
+    @Benchmark
+    public double[] monteCarlo() throws InvalidScoreException, FrameIsFullException {
+        final int[] rolls = this.rolls[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (NUM_GAMES - 1);
+
+        final double[] distribution = new double[ScoreDistribution.MAX_SCORE + 1];
+        for (int playout = 0; playout < NUM_PLAYOUTS; playout++) {
+            final ScoreBoard board = Games.play(rolls);
+            while (!board.isComplete()) {
+                final int standing = standingPins(board);
+                board.recordPoints(samplePins(standing));
+            }
+            distribution[board.scoreBoardTotal()] += 1.0 / NUM_PLAYOUTS;
+        }
+        return distribution;
+    }
+
+    private int samplePins(final int standing) {
+        double sample = this.random.nextDouble();
+        for (int pins = 0; pins < standing; pins++) {
+            sample -= this.model.probability(standing, pins);
+            if (sample < 0) {
+                return pins;
+            }
+        }
+        return standing;
+    }
+
+    private static int standingPins(final ScoreBoard board) {
+        final int frameId = board.getCurrentFrameId();
+        final Frame frame = board.getFrames().get(frameId);
+        if (frame.getNumBalls() == 0) {
+            return 10;
+        }
+
+        final int first = frame.getFirstBallScoreValue();
+        if (frame.getNumBalls() == 1) {
+            return first == 10 && frameId == 9 ? 10 : 10 - first;
+        }
+
+        final int second = frame.getBallScoreValue(1);
+        return first == 10 && second < 10 ? 10 - second : 10;
+    }
+}
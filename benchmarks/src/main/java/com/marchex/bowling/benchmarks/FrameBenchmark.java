@@ -0,0 +1,78 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Frame} checks that run on every roll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameBenchmark {
+    private Frame strike;
+    private Frame openFrame;
+    private Frame firstStrike;
+    private Frame secondStrike;
+    private Frame afterTwoStrikes;
+    private Frame lastFrame;
+
+    @Setup
+    public void setUp() throws InvalidScoreException, FrameIsFullException {
+        this.strike = new Frame(3);
+        this.strike.recordScore(10);
+        this.openFrame = new Frame(4);
+        this.openFrame.recordScore(3);
+        this.openFrame.recordScore(4);
+
+        this.firstStrike = new Frame(5);
+        this.firstStrike.recordScore(10);
+        this.secondStrike = new Frame(6);
+        this.secondStrike.recordScore(10);
+        this.afterTwoStrikes = new Frame(7);
+        this.afterTwoStrikes.recordScore(8);
+
+        this.lastFrame = new Frame(9);
+        this.lastFrame.recordScore(10);
+        this.lastFrame.recordScore(3);
+        this.lastFrame.recordScore(7);
+    }
+
+    @Benchmark
+    public int setBonus() {
+        this.strike.setBonus(this.openFrame);
+        return this.strike.getFrameScoreValue();
+    }
+
+    @Benchmark
+    public int setBonusTwoStrikes() {
+        this.firstStrike.setBonus(this.secondStrike, this.afterTwoStrikes);
+        return this.firstStrike.getFrameScoreValue();
+    }
+
+    @Benchmark
+    public boolean hasFinished() {
+        return this.openFrame.hasFinished();
+    }
+
+    @Benchmark
+    public boolean hasFinishedLastFrame() {
+        return this.lastFrame.hasFinished();
+    }
+}
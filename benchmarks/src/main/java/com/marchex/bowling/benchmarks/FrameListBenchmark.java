@@ -0,0 +1,73 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.Frame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame lookups done by {@link com.marchex.bowling.ScoreBoard#recordPoints(int)} (current frame and the two before it)
+ * against the array backing, compared to the LinkedList the score board used to hold its frames in.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameListBenchmark {
+    private static final int NUMBER_OF_FRAMES = 10;
+
+    private Frame[] frameArray;
+    private LinkedList<Frame> frameList;
+
+    @Setup
+    public void setUp() {
+        this.frameArray = new Frame[NUMBER_OF_FRAMES];
+        this.frameList = new LinkedList<>();
+        for (int i = 0; i < NUMBER_OF_FRAMES; i++) {
+            this.frameArray[i] = new Frame(i);
+            this.frameList.add(new Frame(i));
+        }
+    }
+
+    @Benchmark
+    public int array() {
+        int checksum = 0;
+        for (int current = 0; current < NUMBER_OF_FRAMES; current++) {
+            checksum += this.frameArray[current].getFrameId();
+            if (current >= 1) {
+                checksum += this.frameArray[current - 1].getFrameId();
+            }
+            if (current >= 2) {
+                checksum += this.frameArray[current - 2].getFrameId();
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public int linkedList() {
+        int checksum = 0;
+        for (int current = 0; current < NUMBER_OF_FRAMES; current++) {
+            checksum += this.frameList.get(current).getFrameId();
+            if (current >= 1) {
+                checksum += this.frameList.get(current - 1).getFrameId();
+            }
+            if (current >= 2) {
+                checksum += this.frameList.get(current - 2).getFrameId();
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,73 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recording the balls of every frame of a game and checking whether the frame has finished after each ball, with the
+ * frame state table of {@link Frame} against the stream based checks of {@link LegacyFrame}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameStateBenchmark {
+    private int[][] games;
+    private int gameIndex;
+
+    @Setup
+    public void setUp() {
+        this.games = Games.random(42L, 1024);
+    }
+
+    @Benchmark
+    public int stateTable() throws InvalidScoreException, FrameIsFullException {
+        final int[] rolls = nextGame();
+        int finished = 0;
+        int frameId = 0;
+        Frame frame = new Frame(frameId);
+        for (final int roll : rolls) {
+            frame.recordScore(roll);
+            if (frame.hasFinished() && ++finished < 10) {
+                frame = new Frame(++frameId);
+            }
+        }
+        return finished;
+    }
+
+    @Benchmark
+    public int streams() {
+        final int[] rolls = nextGame();
+        int finished = 0;
+        int frameId = 0;
+        LegacyFrame frame = new LegacyFrame(frameId);
+        for (final int roll : rolls) {
+            frame.recordScore(roll);
+            if (frame.hasFinished() && ++finished < 10) {
+                frame = new LegacyFrame(++frameId);
+            }
+        }
+        return finished;
+    }
+
+    private int[] nextGame() {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+        return rolls;
+    }
+}
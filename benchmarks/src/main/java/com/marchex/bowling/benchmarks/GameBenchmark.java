@@ -0,0 +1,73 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.GameScorer;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardPool;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of scoring complete games through a new {@link ScoreBoard}, including the board construction, through
+ * a board taken from a {@link ScoreBoardPool}, and through {@link GameScorer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+    @Param({"perfect", "gutter", "spares", "random"})
+    private String game;
+
+    private int[][] games;
+    private int gameIndex;
+    private ScoreBoardPool pool;
+
+    @Setup
+    public void setUp() {
+        this.games = "random".equals(this.game) ? Games.random(42L, 1024) : new int[][]{Games.named(this.game)};
+        this.pool = new ScoreBoardPool();
+    }
+
+    @Benchmark
+    public int fullGame() throws InvalidScoreException, FrameIsFullException {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) % this.games.length;
+        return Games.play(rolls).scoreBoardTotal();
+    }
+
+    @Benchmark
+    public int pooledGame() throws InvalidScoreException, FrameIsFullException {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) % this.games.length;
+
+        final ScoreBoard board = this.pool.acquire();
+        for (final int roll : rolls) {
+            board.recordPoints(roll);
+        }
+        final int total = board.scoreBoardTotal();
+        this.pool.release(board);
+        return total;
+    }
+
+    @Benchmark
+    public int gameScorer() throws InvalidScoreException, FrameIsFullException {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) % this.games.length;
+        return GameScorer.scoreGame(rolls, 0, rolls.length);
+    }
+}
@@ -0,0 +1,45 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.enumeration.GameSpace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting every complete game by score with a {@link GameSpace}, and listing the games of a score from it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameSpaceBenchmark {
+    private static final int GAMES_LISTED = 10000;
+
+    private GameSpace space;
+
+    @Setup
+    public void setUp() {
+        this.space = new GameSpace();
+    }
+
+    @Benchmark
+    public GameSpace count() {
+        return new GameSpace();
+    }
+
+    @Benchmark
+    public long listGames() {
+        return this.space.games(200).limit(GAMES_LISTED).mapToInt(game -> game.length).sum();
+    }
+}
@@ -0,0 +1,128 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.OffHeapGameStore;
+import com.marchex.bowling.OffHeapScoreBoard;
+import com.marchex.bowling.ScoreBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recording rolls across a large number of games in progress, each kept as a {@link ScoreBoard} on the heap or as a
+ * record of an {@link OffHeapGameStore}. Finished games are replaced by new ones. The heap in use once the games are
+ * set up is printed before the first iteration, and {@code -prof gc} adds the time spent in garbage collection
+ * ({@code gc.time}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Thread)
+public class GameStoreBenchmark {
+    private static final int NUM_ROLL_SEQUENCES = 1024;
+
+    @Param({"heap", "offHeap"})
+    private String storage;
+
+    @Param({"1000000"})
+    private int numGames;
+
+    private ScoreBoard[] boards;
+    private OffHeapGameStore store;
+    private int[] slots;
+    private OffHeapScoreBoard view;
+
+    private int[][] rolls;
+    private int[] nextRolls;
+    private int gameIndex;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        this.rolls = new int[NUM_ROLL_SEQUENCES][];
+        for (int i = 0; i < NUM_ROLL_SEQUENCES; i++) {
+            this.rolls[i] = Games.random(random);
+        }
+        this.nextRolls = new int[this.numGames];
+
+        if ("heap".equals(this.storage)) {
+            this.boards = new ScoreBoard[this.numGames];
+            for (int game = 0; game < this.numGames; game++) {
+                this.boards[game] = new ScoreBoard();
+            }
+        } else {
+            this.store = new OffHeapGameStore(this.numGames);
+            this.slots = new int[this.numGames];
+            for (int game = 0; game < this.numGames; game++) {
+                this.slots[game] = this.store.allocate();
+            }
+            this.view = this.store.board(this.slots[0]);
+        }
+
+        // start every game somewhere in the middle
+        for (int game = 0; game < this.numGames; game++) {
+            final int numRolls = random.nextInt(rolls(game).length);
+            for (int i = 0; i < numRolls; i++) {
+                roll(game);
+            }
+        }
+
+        System.gc();
+        final MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        System.out.printf("%nheap in use with %d games kept %s: %d MB%n", this.numGames, this.storage,
+                heap.getUsed() >> 20);
+    }
+
+    @Benchmark
+    public int recordPoints() {
+        final int game = this.gameIndex;
+        this.gameIndex = this.gameIndex + 1 == this.numGames ? 0 : this.gameIndex + 1;
+        return roll(game);
+    }
+
+    private int roll(final int game) {
+        final int[] rolls = rolls(game);
+        final int points = rolls[this.nextRolls[game]++];
+        final boolean complete = this.nextRolls[game] == rolls.length;
+        if (complete) {
+            this.nextRolls[game] = 0;
+        }
+
+        if (this.boards != null) {
+            final ScoreBoard board = this.boards[game];
+            board.tryRecordPoints(points);
+            final int total = board.scoreBoardTotal();
+            if (complete) {
+                this.boards[game] = new ScoreBoard();
+            }
+            return total;
+        }
+
+        final OffHeapScoreBoard board = this.view.moveTo(this.slots[game]);
+        board.tryRecordPoints(points);
+        final int total = board.scoreBoardTotal();
+        if (complete) {
+            this.store.release(this.slots[game]);
+            this.slots[game] = this.store.allocate();
+        }
+        return total;
+    }
+
+    private int[] rolls(final int game) {
+        return this.rolls[game & (NUM_ROLL_SEQUENCES - 1)];
+    }
+}
@@ -0,0 +1,98 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Roll sequences for complete games used as benchmark input.
+ */
+public final class Games {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int ALL_PINS = 10;
+
+    private Games() {
+    }
+
+    public static int[] perfect() {
+        final int[] rolls = new int[12];
+        Arrays.fill(rolls, ALL_PINS);
+        return rolls;
+    }
+
+    public static int[] gutter() {
+        return new int[20];
+    }
+
+    public static int[] allSpares() {
+        final int[] rolls = new int[21];
+        Arrays.fill(rolls, 5);
+        return rolls;
+    }
+
+    /**
+     * @param random source of pin falls
+     * @return a complete game where every roll knocks down a uniformly random number of the standing pins
+     */
+    public static int[] random(final Random random) {
+        final int[] rolls = new int[21];
+        int numRolls = 0;
+
+        for (int frame = 0; frame < NUMBER_OF_FRAMES - 1; frame++) {
+            final int first = random.nextInt(ALL_PINS + 1);
+            rolls[numRolls++] = first;
+            if (first < ALL_PINS) {
+                rolls[numRolls++] = random.nextInt(ALL_PINS - first + 1);
+            }
+        }
+
+        final int first = random.nextInt(ALL_PINS + 1);
+        rolls[numRolls++] = first;
+        if (first == ALL_PINS) {
+            final int second = random.nextInt(ALL_PINS + 1);
+            rolls[numRolls++] = second;
+            rolls[numRolls++] = random.nextInt((second == ALL_PINS ? ALL_PINS : ALL_PINS - second) + 1);
+        } else {
+            final int second = random.nextInt(ALL_PINS - first + 1);
+            rolls[numRolls++] = second;
+            if (first + second == ALL_PINS) {
+                rolls[numRolls++] = random.nextInt(ALL_PINS + 1);
+            }
+        }
+
+        return Arrays.copyOf(rolls, numRolls);
+    }
+
+    public static int[][] random(final long seed, final int count) {
+        final Random random = new Random(seed);
+        final int[][] games = new int[count][];
+        for (int i = 0; i < count; i++) {
+            games[i] = random(random);
+        }
+        return games;
+    }
+
+    public static int[] named(final String name) {
+        switch (name) {
+            case "perfect":
+                return perfect();
+            case "gutter":
+                return gutter();
+            case "spares":
+                return allSpares();
+            default:
+                throw new IllegalArgumentException("Unknown game " + name);
+        }
+    }
+
+    public static ScoreBoard play(final int[] rolls) throws InvalidScoreException, FrameIsFullException {
+        final ScoreBoard board = new ScoreBoard();
+        for (final int roll : rolls) {
+            board.recordPoints(roll);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,74 @@
+package com.marchex.bowling.benchmarks;
+
+import java.util.ArrayList;
+
+/**
+ * The roll checks of {@link com.marchex.bowling.Frame} as they were written before the frame state table, on a list
+ * of boxed balls with streams. Kept only to compare against.
+ */
+final class LegacyFrame {
+    private static final int DEFAULT_TOTAL_SCORE = 10;
+    private static final int DEFAULT_NUM_BALLS_PER_FRAME = 2;
+    private static final int LAST_FRAME_NUMBER = 9;
+    private static final int MAX_BALLS_IN_LAST_FRAME = 3;
+
+    private final int frameId;
+    private final ArrayList<Integer> balls;
+
+    LegacyFrame(final int frameId) {
+        this.frameId = frameId;
+        this.balls = new ArrayList<>(MAX_BALLS_IN_LAST_FRAME);
+    }
+
+    /**
+     * @return false when the roll is rejected
+     */
+    boolean recordScore(final int score) {
+        if (hasFinished()) {
+            return false;
+        }
+
+        if (getScore() + score > DEFAULT_TOTAL_SCORE && !isLastFrame()) {
+            return false;
+        }
+
+        this.balls.add(score);
+        return true;
+    }
+
+    boolean isStrike() {
+        if (!isLastFrame()) {
+            return this.balls.size() == 1 && this.balls.get(0) == DEFAULT_TOTAL_SCORE;
+        } else {
+            return this.balls.stream().anyMatch(i -> i == DEFAULT_TOTAL_SCORE);
+        }
+    }
+
+    boolean isSpare() {
+        return this.balls.size() >= 2 && getScore() >= DEFAULT_TOTAL_SCORE;
+    }
+
+    boolean hasFinished() {
+        if (!isLastFrame() && isStrike()) {
+            return true;
+        }
+
+        if (isLastFrame()) {
+            if (!(isStrike() || isSpare())) {
+                return this.balls.size() == DEFAULT_NUM_BALLS_PER_FRAME;
+            } else {
+                return this.balls.size() == MAX_BALLS_IN_LAST_FRAME;
+            }
+        }
+
+        return this.balls.size() == DEFAULT_NUM_BALLS_PER_FRAME;
+    }
+
+    private boolean isLastFrame() {
+        return this.frameId == LAST_FRAME_NUMBER;
+    }
+
+    private int getScore() {
+        return this.balls.stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,73 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardListener;
+import com.marchex.bowling.events.ScoreBoardEventDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the score board events on recording a whole game: with no listener, which should be close to the cost
+ * without events at all, with a listener that does nothing, and through a {@link ScoreBoardEventDispatcher}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerBenchmark {
+    @Param({"none", "noop", "dispatcher"})
+    private String listener;
+
+    private int[][] games;
+    private int gameIndex;
+    private ScoreBoard board;
+    private ScoreBoardEventDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        this.games = Games.random(42L, 1024);
+        this.board = new ScoreBoard();
+
+        if ("noop".equals(this.listener)) {
+            this.board.addListener(new ScoreBoardListener() {
+            });
+        } else if ("dispatcher".equals(this.listener)) {
+            this.dispatcher = new ScoreBoardEventDispatcher(changes -> {
+            });
+            this.board.addListener(this.dispatcher.forGame("lane-1"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (this.dispatcher != null) {
+            this.dispatcher.close();
+        }
+    }
+
+    @Benchmark
+    public int fullGame() {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+
+        this.board.reset();
+        for (final int roll : rolls) {
+            this.board.tryRecordPoints(roll);
+        }
+        return this.board.scoreBoardTotal();
+    }
+}
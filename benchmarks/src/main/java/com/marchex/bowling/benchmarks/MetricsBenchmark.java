@@ -0,0 +1,54 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.metrics.ScoringMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ScoringMetrics} on recording a whole game, with the metrics disabled, which should be the same as
+ * before metrics existed, and enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+    @Param({"false", "true"})
+    private boolean enabled;
+
+    private int[][] games;
+    private int gameIndex;
+    private ScoreBoard board;
+
+    @Setup
+    public void setUp() {
+        this.games = Games.random(42L, 1024);
+        this.board = new ScoreBoard(this.enabled ? new ScoringMetrics() : null);
+    }
+
+    @Benchmark
+    public int fullGame() {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+
+        this.board.reset();
+        for (final int roll : rolls) {
+            this.board.tryRecordPoints(roll);
+        }
+        return this.board.scoreBoardTotal();
+    }
+}
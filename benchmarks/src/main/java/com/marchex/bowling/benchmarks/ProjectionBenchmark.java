@@ -0,0 +1,74 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The highest score games in progress can still reach, from {@link ScoreBoard#maxPossibleScore()} against copying the
+ * game into a new score board and playing the rest of it with strikes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectionBenchmark {
+    private static final int NUM_GAMES = 1024;
+
+    private ScoreBoard[] boards;
+    private int[][] rolls;
+    private int gameIndex;
+
+    @Setup
+    public void setUp() throws InvalidScoreException, FrameIsFullException {
+        final Random random = new Random(42L);
+        final int[][] games = Games.random(42L, NUM_GAMES);
+        this.boards = new ScoreBoard[NUM_GAMES];
+        this.rolls = new int[NUM_GAMES][];
+
+        for (int i = 0; i < NUM_GAMES; i++) {
+            this.rolls[i] = Arrays.copyOf(games[i], random.nextInt(games[i].length));
+            this.boards[i] = Games.play(this.rolls[i]);
+        }
+    }
+
+    @Benchmark
+    public int closedForm() {
+        final ScoreBoard board = this.boards[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (NUM_GAMES - 1);
+        return board.maxPossibleScore();
+    }
+
+    @Benchmark
+    public int simulation() throws InvalidScoreException, FrameIsFullException {
+        final int[] rolls = this.rolls[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (NUM_GAMES - 1);
+
+        final ScoreBoard board = Games.play(rolls);
+        while (!board.isComplete()) {
+            final Frame frame = board.getFrames().get(board.getCurrentFrameId());
+            final int standing = frame.getNumBalls() == 1 && board.getCurrentFrameId() < 9
+                    ? 10 - frame.getFirstBallScoreValue()
+                    : 10;
+            board.recordPoints(standing);
+        }
+        return board.scoreBoardTotal();
+    }
+}
@@ -0,0 +1,52 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a single {@link ScoreBoard#recordPoints(int)} call. The board is replaced when its game completes, which
+ * is amortized over the rolls of the game.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordPointsBenchmark {
+    private int[][] games;
+    private int gameIndex;
+    private int rollIndex;
+    private ScoreBoard board;
+
+    @Setup
+    public void setUp() {
+        this.games = Games.random(42L, 1024);
+        this.board = new ScoreBoard();
+    }
+
+    @Benchmark
+    public int recordPoints() throws InvalidScoreException, FrameIsFullException {
+        if (this.board.isComplete()) {
+            this.board = new ScoreBoard();
+            this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+            this.rollIndex = 0;
+        }
+
+        this.board.recordPoints(this.games[this.gameIndex][this.rollIndex++]);
+        return this.board.getCurrentFrameId();
+    }
+}
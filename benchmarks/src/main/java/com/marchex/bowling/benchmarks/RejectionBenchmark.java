@@ -0,0 +1,93 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeding a noisy stream of readings, where rejectionPercent of the readings are not valid rolls, into score boards
+ * through the checked exceptions of {@link ScoreBoard#recordPoints(int)} against the status codes of
+ * {@link ScoreBoard#tryRecordPoints(int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejectionBenchmark {
+    private static final int NUM_READINGS = 4096;
+
+    @Param({"10", "50"})
+    private int rejectionPercent;
+
+    private int[] readings;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        this.readings = new int[NUM_READINGS];
+
+        // readings that are rejected either knock down more pins than are standing or are out of range, the others
+        // follow the pins standing in a regular frame
+        int standing = 10;
+        boolean firstBall = true;
+        for (int i = 0; i < NUM_READINGS; i++) {
+            if (random.nextInt(100) < this.rejectionPercent) {
+                this.readings[i] = random.nextBoolean() ? standing + 1 + random.nextInt(5) : -1 - random.nextInt(5);
+            } else {
+                final int pins = random.nextInt(standing + 1);
+                this.readings[i] = pins;
+                firstBall = !firstBall || pins == 10;
+                standing = firstBall ? 10 : standing - pins;
+            }
+        }
+    }
+
+    @Benchmark
+    public int exceptions() {
+        ScoreBoard board = new ScoreBoard();
+        int rejected = 0;
+        for (final int reading : this.readings) {
+            try {
+                board.recordPoints(reading);
+            } catch (InvalidScoreException | FrameIsFullException | IllegalArgumentException e) {
+                rejected++;
+            }
+            if (board.isComplete()) {
+                board = new ScoreBoard();
+            }
+        }
+        return rejected;
+    }
+
+    @Benchmark
+    public int statusCodes() {
+        ScoreBoard board = new ScoreBoard();
+        int rejected = 0;
+        for (final int reading : this.readings) {
+            if (board.tryRecordPoints(reading) != RollStatus.OK) {
+                rejected++;
+            }
+            if (board.isComplete()) {
+                board = new ScoreBoard();
+            }
+        }
+        return rejected;
+    }
+}
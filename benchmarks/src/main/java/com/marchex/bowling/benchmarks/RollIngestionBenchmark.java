@@ -0,0 +1,111 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoardRegistry;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import com.marchex.bowling.server.RollIngestionClient;
+import com.marchex.bowling.server.RollIngestionServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rolls sent over localhost to an in-process {@link RollIngestionServer}, one connection and lane per thread. Run with
+ * {@code -t} to add connections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollIngestionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        private RollIngestionServer server;
+        private final AtomicInteger nextLane = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            this.server = new RollIngestionServer(new ScoreBoardRegistry(), new InetSocketAddress("127.0.0.1", 0));
+            this.server.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            this.server.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Connection {
+        private RollIngestionClient client;
+        private String laneId;
+        private int[][] games;
+        private int gameIndex;
+        private int rollIndex;
+
+        @Setup(Level.Trial)
+        public void setUp(final Server server) throws IOException {
+            this.client = new RollIngestionClient(new InetSocketAddress("127.0.0.1", server.server.getPort()));
+            this.laneId = "lane-" + server.nextLane.getAndIncrement();
+            this.games = Games.random(this.laneId.hashCode(), 1024);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            this.client.close();
+        }
+
+        private int[] nextGame() throws IOException, InvalidScoreException {
+            this.client.startGame(this.laneId);
+            this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+            this.rollIndex = 0;
+            return this.games[this.gameIndex];
+        }
+    }
+
+    /**
+     * One roll per round trip.
+     */
+    @Benchmark
+    public int roundTrip(final Connection connection) throws IOException, InvalidScoreException {
+        int[] game = connection.games[connection.gameIndex];
+        if (connection.rollIndex == game.length) {
+            game = connection.nextGame();
+        }
+
+        return connection.client.recordPoints(connection.laneId, game[connection.rollIndex++]);
+    }
+
+    /**
+     * All the rolls of a game sent before reading the replies.
+     */
+    @Benchmark
+    public int pipelinedGame(final Connection connection) throws IOException, InvalidScoreException {
+        final int[] game = connection.nextGame();
+        for (final int roll : game) {
+            connection.client.send(connection.laneId, roll);
+        }
+        connection.client.flush();
+
+        int total = 0;
+        for (int i = 0; i < game.length; i++) {
+            total = connection.client.receive();
+        }
+        return total;
+    }
+}
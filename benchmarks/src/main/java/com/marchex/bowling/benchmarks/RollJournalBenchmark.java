@@ -0,0 +1,137 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.journal.RollJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Appending rolls of 10k active games to a {@link RollJournal} with different group commit sizes, and recovering the
+ * 10k games from a journal directory with and without a snapshot.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollJournalBenchmark {
+    private static final int NUM_LANES = 10_000;
+
+    @State(Scope.Thread)
+    public static class Append {
+        @Param({"1", "64", "1024"})
+        private int groupCommitSize;
+
+        private Path directory;
+        private RollJournal journal;
+        private int[][] games;
+        private int[] gameOfLane;
+        private int[] rollOfLane;
+        private int lane;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            this.directory = Files.createTempDirectory("journal-append");
+            this.journal = new RollJournal(this.directory, this.groupCommitSize, 100_000);
+            this.games = Games.random(42L, 1024);
+            this.gameOfLane = new int[NUM_LANES];
+            this.rollOfLane = new int[NUM_LANES];
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            this.journal.close();
+            deleteDirectory(this.directory);
+        }
+
+        /**
+         * Records the next roll of the next lane, starting a new game on the lane once its game is over.
+         */
+        int recordNextRoll() throws IOException {
+            final int lane = this.lane;
+            this.lane = (lane + 1) % NUM_LANES;
+
+            final int[] rolls = this.games[this.gameOfLane[lane]];
+            if (this.rollOfLane[lane] == rolls.length) {
+                this.journal.startGame(lane);
+                this.gameOfLane[lane] = (this.gameOfLane[lane] + 1) & (this.games.length - 1);
+                this.rollOfLane[lane] = 0;
+                return 0;
+            }
+            return this.journal.recordPoints(lane, rolls[this.rollOfLane[lane]++]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Recovery {
+        @Param({"true", "false"})
+        private boolean snapshot;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            this.directory = Files.createTempDirectory("journal-recovery");
+            final int[][] games = Games.random(42L, 1024);
+
+            // every lane plays a whole game and half of the next one
+            try (RollJournal journal = new RollJournal(this.directory, 1024, Integer.MAX_VALUE)) {
+                for (int lane = 0; lane < NUM_LANES; lane++) {
+                    for (final int roll : games[lane & (games.length - 1)]) {
+                        journal.recordPoints(lane, roll);
+                    }
+                    journal.startGame(lane);
+                    final int[] next = games[(lane + 1) & (games.length - 1)];
+                    for (int i = 0; i < next.length / 2; i++) {
+                        journal.recordPoints(lane, next[i]);
+                    }
+                }
+                if (this.snapshot) {
+                    journal.snapshot();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteDirectory(this.directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int append(final Append append) throws IOException {
+        return append.recordNextRoll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int recover(final Recovery recovery) throws IOException {
+        try (RollJournal journal = new RollJournal(recovery.directory)) {
+            return journal.getGameCount();
+        }
+    }
+
+    private static void deleteDirectory(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
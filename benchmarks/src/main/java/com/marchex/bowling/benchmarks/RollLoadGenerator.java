@@ -0,0 +1,86 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoardRegistry;
+import com.marchex.bowling.server.RollIngestionClient;
+import com.marchex.bowling.server.RollIngestionServer;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends random games to a {@link RollIngestionServer} over several connections and prints the rolls per second.
+ * <p>
+ * Usage: {@code RollLoadGenerator <connections> <seconds> [host:port]}. Without an address an in-process server is
+ * started on a free port.
+ */
+public final class RollLoadGenerator {
+
+    private RollLoadGenerator() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int connections = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        final int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        RollIngestionServer server = null;
+        final InetSocketAddress address;
+        if (args.length > 2) {
+            final String[] hostAndPort = args[2].split(":");
+            address = new InetSocketAddress(hostAndPort[0], Integer.parseInt(hostAndPort[1]));
+        } else {
+            server = new RollIngestionServer(new ScoreBoardRegistry(), new InetSocketAddress("127.0.0.1", 0));
+            server.start();
+            address = new InetSocketAddress("127.0.0.1", server.getPort());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(connections);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        final List<Future<Long>> results = new ArrayList<>();
+
+        final long start = System.nanoTime();
+        for (int c = 0; c < connections; c++) {
+            final String laneId = "load-" + c;
+            results.add(executor.submit(() -> sendGames(address, laneId, deadline)));
+        }
+
+        long rolls = 0;
+        for (final Future<Long> result : results) {
+            rolls += result.get();
+        }
+        final double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        executor.shutdown();
+        if (server != null) {
+            server.close();
+        }
+
+        System.out.printf("%d connections: %d rolls in %.1f s, %.0f rolls/s%n",
+                connections, rolls, elapsedSeconds, rolls / elapsedSeconds);
+    }
+
+    private static long sendGames(final InetSocketAddress address, final String laneId, final long deadline)
+            throws Exception {
+        final int[][] games = Games.random(laneId.hashCode(), 1024);
+        long rolls = 0;
+
+        try (RollIngestionClient client = new RollIngestionClient(address)) {
+            for (int game = 0; System.nanoTime() < deadline; game = (game + 1) & (games.length - 1)) {
+                client.startGame(laneId);
+                for (final int roll : games[game]) {
+                    client.send(laneId, roll);
+                }
+                client.flush();
+                for (int i = 0; i < games[game].length; i++) {
+                    client.receive();
+                }
+                rolls += games[game].length;
+            }
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,72 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.log.RollLogParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a roll log of 200k games played on 16 lanes, 40 to 55MB, on a single thread. Divide the log size printed
+ * at setup by the time per operation for the parsing rate.
+ * <p>
+ * With {@code distinctGames = 200000} every game gets its own score board, which includes creating 200k score boards.
+ * With {@code distinctGames = 16} the game ids repeat, so after the first games the rolls are parsed and dispatched
+ * to a finished board, which measures the parsing itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RollLogParserBenchmark {
+    private static final int NUM_LANES = 16;
+    private static final int NUM_GAMES = 200_000;
+
+    @Param({"16", "200000"})
+    private int distinctGames;
+
+    private byte[] log;
+
+    @Setup
+    public void setUp() throws IOException {
+        final int[][] games = Games.random(42L, NUM_GAMES);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024 * 1024);
+        final StringBuilder line = new StringBuilder();
+
+        for (int game = 0; game < NUM_GAMES; game++) {
+            final int lane = game % NUM_LANES;
+            for (int roll = 0; roll < games[game].length; roll++) {
+                line.setLength(0);
+                line.append(lane).append(',').append(game % this.distinctGames).append(',').append(roll / 2).append(',')
+                        .append(roll % 2).append(',').append(games[game][roll]).append('\n');
+                out.write(line.toString().getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        this.log = out.toByteArray();
+        System.out.printf("%nroll log of %.1f MB%n", this.log.length / (1024.0 * 1024.0));
+    }
+
+    @Benchmark
+    public long parse() throws IOException {
+        final RollLogParser parser = new RollLogParser(new RollLogParser.Listener() {
+        });
+        parser.parse(Channels.newChannel(new ByteArrayInputStream(this.log)));
+        return parser.getRollCount();
+    }
+}
@@ -0,0 +1,63 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoardRegistry;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rolls recorded through a shared {@link ScoreBoardRegistry}, every thread feeding its own lane. Run with increasing
+ * thread counts to see the scaling, e.g. {@code -t 1}, {@code -t 2}, {@code -t 4} and {@code -t max}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBoardRegistryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Registry {
+        private final ScoreBoardRegistry registry = new ScoreBoardRegistry();
+        private final AtomicInteger nextLane = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Lane {
+        private String gameId;
+        private int[][] games;
+        private int gameIndex;
+        private int rollIndex;
+
+        @Setup
+        public void setUp(final Registry registry) {
+            this.gameId = "lane-" + registry.nextLane.getAndIncrement();
+            this.games = Games.random(this.gameId.hashCode(), 1024);
+            registry.registry.startGame(this.gameId);
+        }
+    }
+
+    @Benchmark
+    public int recordPoints(final Registry registry, final Lane lane) throws InvalidScoreException, FrameIsFullException {
+        if (lane.rollIndex == lane.games[lane.gameIndex].length) {
+            registry.registry.startGame(lane.gameId);
+            lane.gameIndex = (lane.gameIndex + 1) & (lane.games.length - 1);
+            lane.rollIndex = 0;
+        }
+
+        registry.registry.recordPoints(lane.gameId, lane.games[lane.gameIndex][lane.rollIndex++]);
+        return registry.registry.scoreBoardTotal(lane.gameId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoringMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playing complete games on a reused {@link ScoreBoard} in each {@link ScoringMode}, reading the total only once the
+ * game is over (write heavy, read rare) or after every roll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoringModeBenchmark {
+    @Param({"EAGER", "LAZY"})
+    private ScoringMode mode;
+
+    private int[][] games;
+    private int gameIndex;
+    private ScoreBoard board;
+
+    @Setup
+    public void setUp() {
+        this.games = Games.random(42L, 1024);
+        this.board = new ScoreBoard(this.mode);
+    }
+
+    @Benchmark
+    public int readAtEnd() {
+        final int[] rolls = nextGame();
+        for (final int roll : rolls) {
+            this.board.tryRecordPoints(roll);
+        }
+        return this.board.scoreBoardTotal();
+    }
+
+    @Benchmark
+    public int readAfterEveryRoll() {
+        final int[] rolls = nextGame();
+        int sum = 0;
+        for (final int roll : rolls) {
+            this.board.tryRecordPoints(roll);
+            sum += this.board.scoreBoardTotal();
+        }
+        return sum;
+    }
+
+    private int[] nextGame() {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+        this.board.reset();
+        return rolls;
+    }
+}
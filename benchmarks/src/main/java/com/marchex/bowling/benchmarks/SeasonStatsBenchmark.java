@@ -0,0 +1,100 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.stats.GameFilter;
+import com.marchex.bowling.stats.SeasonSelection;
+import com.marchex.bowling.stats.SeasonStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The average, strike and spare rates of one bowler over a season, from completed {@link ScoreBoard}s by walking
+ * their frames, against the columns of a {@link SeasonStats}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Thread)
+public class SeasonStatsBenchmark {
+    private static final int NUM_BOWLERS = 100;
+    private static final LocalDate SEASON_START = LocalDate.of(2016, 9, 1);
+
+    @Param({"200000"})
+    private int numGames;
+
+    private ScoreBoard[] boards;
+    private int[] bowlerIds;
+    private SeasonStats stats;
+
+    @Setup
+    public void setUp() throws Exception {
+        final Random random = new Random(42L);
+        final int[][] games = Games.random(42L, 1024);
+        this.boards = new ScoreBoard[this.numGames];
+        this.bowlerIds = new int[this.numGames];
+        this.stats = new SeasonStats();
+
+        for (int game = 0; game < this.numGames; game++) {
+            this.boards[game] = Games.play(games[game & 1023]);
+            this.bowlerIds[game] = random.nextInt(NUM_BOWLERS);
+            this.stats.add(this.bowlerIds[game], SEASON_START.plusDays(random.nextInt(200)), this.boards[game]);
+        }
+    }
+
+    @Benchmark
+    public double scoreBoards() {
+        return walkFrames(7);
+    }
+
+    @Benchmark
+    public double scoreBoardsAllGames() {
+        return walkFrames(-1);
+    }
+
+    @Benchmark
+    public double columns() {
+        final SeasonSelection selection = this.stats.select(GameFilter.bowler(7));
+        return selection.average() + selection.strikeRate() + selection.spareRate();
+    }
+
+    @Benchmark
+    public double columnsAllGames() {
+        final SeasonSelection selection = this.stats.select(GameFilter.all());
+        return selection.average() + selection.strikeRate() + selection.spareRate();
+    }
+
+    private double walkFrames(final int bowlerId) {
+        long games = 0;
+        long totals = 0;
+        long strikes = 0;
+        long spares = 0;
+        for (int game = 0; game < this.numGames; game++) {
+            if (bowlerId >= 0 && this.bowlerIds[game] != bowlerId) {
+                continue;
+            }
+            games++;
+            for (final Frame frame : this.boards[game].getFrames()) {
+                strikes += frame.isStrike() ? 1 : 0;
+                spares += frame.isSpare() ? 1 : 0;
+                totals += frame.getFrameScore().get();
+            }
+        }
+        return (totals + (double) strikes / games + (double) spares / games) / games;
+    }
+}
@@ -0,0 +1,58 @@
+package com.marchex.bowling.benchmarks;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live display pattern: the total is read after every roll, compared to reading it once the game is over.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TotalAfterEachRollBenchmark {
+    private int[][] games;
+    private int gameIndex;
+
+    @Setup
+    public void setUp() {
+        this.games = Games.random(42L, 1024);
+    }
+
+    @Benchmark
+    public int totalAfterEachRoll() throws InvalidScoreException, FrameIsFullException {
+        final ScoreBoard board = new ScoreBoard();
+        int checksum = 0;
+        for (final int roll : nextGame()) {
+            board.recordPoints(roll);
+            checksum += board.scoreBoardTotal();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public int totalAtEnd() throws InvalidScoreException, FrameIsFullException {
+        return Games.play(nextGame()).scoreBoardTotal();
+    }
+
+    private int[] nextGame() {
+        final int[] rolls = this.games[this.gameIndex];
+        this.gameIndex = (this.gameIndex + 1) & (this.games.length - 1);
+        return rolls;
+    }
+}
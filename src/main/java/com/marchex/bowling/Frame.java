@@ -5,26 +5,48 @@ import com.google.common.base.Preconditions;
 import com.marchex.bowling.exceptions.FrameIsFullException;
 import com.marchex.bowling.exceptions.InvalidScoreException;
 
-import java.util.ArrayList;
 import java.util.Optional;
 
 
 public class Frame {
+    /**
+     * Returned by the primitive score accessors when the requested score is not available yet.
+     */
+    public static final int SCORE_NOT_AVAILABLE = -1;
+
     private static final int DEFAULT_TOTAL_SCORE = 10;
     private static final int DEFAULT_NUM_BALLS_PER_FRAME = 2;
     private static final int LAST_FRAME_NUMBER = 9;
     private static final int MAX_BALLS_IN_LAST_FRAME = 3;
 
     private int frameId;
-    private ArrayList<Integer> balls;
-    private Optional<Integer> bonus;
+
+    // rolls are kept in primitive fields so that recording a score never allocates
+    private int ball1;
+    private int ball2;
+    private int ball3;
+    private int numBalls;
+    private int bonus;
+    // see FrameStates
+    private int state;
 
     public Frame(final int frameId) {
         Preconditions.checkArgument(frameId <= LAST_FRAME_NUMBER, "Valid FrameID is between 0 and 9.");
 
         this.frameId = frameId;
-        this.balls = new ArrayList<>(numAllowedBalls());
-        this.bonus = Optional.empty();
+        reset();
+    }
+
+    /**
+     * Clears the balls and the bonus of the frame, leaving it the same as a new frame with the same frameId.
+     */
+    public void reset() {
+        this.ball1 = 0;
+        this.ball2 = 0;
+        this.ball3 = 0;
+        this.numBalls = 0;
+        this.bonus = SCORE_NOT_AVAILABLE;
+        this.state = FrameStates.initialState(this.frameId);
     }
 
     public int numAllowedBalls() {
@@ -45,31 +67,99 @@ public class Frame {
      * @param score The score
      */
     public void recordScore(final int score) throws FrameIsFullException, InvalidScoreException {
-        Preconditions.checkArgument(score <= Frame.DEFAULT_TOTAL_SCORE, "You can only add points from 0-10");
+        RollStatus.check(tryRecordScore(score), this.frameId);
+    }
 
-        if (hasFinished()) {
-            throw new FrameIsFullException("The frame with frameId " + this.frameId + " is full");
+    /**
+     * Record a score for this frame without throwing when it is rejected.
+     *
+     * @param score The score
+     * @return {@link RollStatus#OK} when the score is recorded, otherwise {@link RollStatus#OUT_OF_RANGE},
+     * {@link RollStatus#OVERFLOW} or {@link RollStatus#FRAME_FULL}
+     */
+    public int tryRecordScore(final int score) {
+        if (score < 0 || score > DEFAULT_TOTAL_SCORE) {
+            return RollStatus.OUT_OF_RANGE;
         }
 
-        if (getScore() + score > DEFAULT_TOTAL_SCORE) {
-            if (!isLastFrame()) {
-                throw new InvalidScoreException("Cannot add a score that makes the frame blow up beyond 10");
-            }
+        final int nextState = FrameStates.next(this.state, score);
+        if (nextState < 0) {
+            return -nextState;
+        }
+
+        switch (this.numBalls) {
+            case 0:
+                this.ball1 = score;
+                break;
+            case 1:
+                this.ball2 = score;
+                break;
+            default:
+                this.ball3 = score;
+                break;
+        }
+        this.numBalls++;
+        this.state = nextState;
+        return RollStatus.OK;
+    }
+
+    /**
+     * Takes back the last ball recorded by {@link #tryRecordScore(int)}.
+     *
+     * @param previousState the state of the frame before the ball, see {@link #getState()}
+     */
+    void undoScore(final int previousState) {
+        Preconditions.checkState(this.numBalls > 0, "No ball to undo");
+
+        this.numBalls--;
+        switch (this.numBalls) {
+            case 0:
+                this.ball1 = 0;
+                break;
+            case 1:
+                this.ball2 = 0;
+                break;
+            default:
+                this.ball3 = 0;
+                break;
         }
+        this.state = previousState;
+    }
 
-        this.balls.add(score);
+    /**
+     * @return the state of the frame in {@link FrameStates}
+     */
+    int getState() {
+        return this.state;
+    }
+
+    /**
+     * @return the bonus carried over from the next frames, or {@link #SCORE_NOT_AVAILABLE} if there is none yet
+     */
+    int getBonus() {
+        return this.bonus;
+    }
+
+    /**
+     * Puts back a bonus returned by {@link #getBonus()}, taking back what {@link #setBonus(Frame)} and
+     * {@link #setBonus(Frame, Frame)} did since.
+     */
+    void restoreBonus(final int bonus) {
+        this.bonus = bonus;
     }
 
     public boolean isStrike() {
         if (!isLastFrame()) {
-            return this.balls.size() == 1 && this.balls.get(0) == DEFAULT_TOTAL_SCORE;
+            return this.numBalls == 1 && this.ball1 == DEFAULT_TOTAL_SCORE;
         } else {
-            return this.balls.stream().anyMatch(i -> i == DEFAULT_TOTAL_SCORE);
+            return (this.numBalls >= 1 && this.ball1 == DEFAULT_TOTAL_SCORE)
+                    || (this.numBalls >= 2 && this.ball2 == DEFAULT_TOTAL_SCORE)
+                    || (this.numBalls >= 3 && this.ball3 == DEFAULT_TOTAL_SCORE);
         }
     }
 
     public boolean isSpare() {
-        return this.balls.size() >= 2 && getScore() >= DEFAULT_TOTAL_SCORE;
+        return this.numBalls >= 2 && getScore() >= DEFAULT_TOTAL_SCORE;
     }
 
     private boolean isLastFrame() {
@@ -81,19 +171,7 @@ public class Frame {
      * frame number
      */
     public boolean hasFinished() {
-        if (!isLastFrame() && isStrike()) {
-            return true;
-        }
-
-        if (isLastFrame()) {
-            if (!(isStrike() || isSpare())) {
-                return this.balls.size() == DEFAULT_NUM_BALLS_PER_FRAME;
-            } else {
-                return this.balls.size() == MAX_BALLS_IN_LAST_FRAME;
-            }
-        }
-
-        return this.balls.size() == numAllowedBalls();
+        return FrameStates.isFinished(this.state);
     }
 
     /**
@@ -101,9 +179,16 @@ public class Frame {
      */
     @VisibleForTesting
     protected int getScore() {
-        return this.balls.stream().mapToInt(Integer::intValue).sum();
+        // balls that have not been played are always 0
+        return this.ball1 + this.ball2 + this.ball3;
     }
 
+    /**
+     * @return number of balls played in the frame so far
+     */
+    public int getNumBalls() {
+        return this.numBalls;
+    }
 
     /**
      * This function tallies the score for the frame It throws a NoScoreAvailableException when the frame is not ready
@@ -112,16 +197,25 @@ public class Frame {
      * @return Optional<Integer> is empty if the frame is not ready to be scored.
      */
     public Optional<Integer> getFrameScore() {
+        return toOptional(getFrameScoreValue());
+    }
+
+    /**
+     * Primitive variant of {@link #getFrameScore()} that does not allocate.
+     *
+     * @return the frame score, or {@link #SCORE_NOT_AVAILABLE} if the frame is not ready to be scored.
+     */
+    public int getFrameScoreValue() {
         if (isReadyToTally()) {
             int sum = getScore();
 
-            if ((isSpare() || isStrike()) && this.bonus.isPresent()) {
-                sum += this.bonus.get();
+            if ((isSpare() || isStrike()) && this.bonus != SCORE_NOT_AVAILABLE) {
+                sum += this.bonus;
             }
 
-            return Optional.of(sum);
+            return sum;
         } else {
-            return Optional.empty();
+            return SCORE_NOT_AVAILABLE;
         }
     }
 
@@ -133,7 +227,7 @@ public class Frame {
     protected boolean isReadyToTally() {
         if (!isLastFrame()) {
             if (isStrike() || isSpare()) {
-                return this.bonus.isPresent();
+                return this.bonus != SCORE_NOT_AVAILABLE;
             }
         }
 
@@ -157,17 +251,19 @@ public class Frame {
         if (isStrike()) {
             if (!nextFrame.isLastFrame()) {
                 if (!nextFrame.isStrike()) {
-                    this.bonus = Optional.of(nextFrame.getScore());
+                    this.bonus = nextFrame.getScore();
                 }
             } else {
-                if (nextFrame.getTwoBallScore().isPresent()) {
-                    this.bonus = Optional.of(nextFrame.getTwoBallScore().get());
+                final int nextTwoBalls = nextFrame.getTwoBallScoreValue();
+                if (nextTwoBalls != SCORE_NOT_AVAILABLE) {
+                    this.bonus = nextTwoBalls;
                 }
             }
         }
 
-        if (isSpare() && nextFrame.getFirstBallScore().isPresent()) {
-            this.bonus = Optional.of(nextFrame.getFirstBallScore().get());
+        final int nextFirstBall = nextFrame.getFirstBallScoreValue();
+        if (isSpare() && nextFirstBall != SCORE_NOT_AVAILABLE) {
+            this.bonus = nextFirstBall;
         }
     }
 
@@ -192,10 +288,10 @@ public class Frame {
 
         if (isStrike() && nextFrame.isStrike()) {
             final int nextFrameScore = nextFrame.getScore();
-            final Optional<Integer> nextFrame2FirstBall = nextFrame2.getFirstBallScore();
+            final int nextFrame2FirstBall = nextFrame2.getFirstBallScoreValue();
 
-            if (nextFrame2FirstBall.isPresent()) {
-                this.bonus = Optional.of(nextFrameScore + nextFrame2FirstBall.get());
+            if (nextFrame2FirstBall != SCORE_NOT_AVAILABLE) {
+                this.bonus = nextFrameScore + nextFrame2FirstBall;
             }
         }
     }
@@ -206,22 +302,53 @@ public class Frame {
      * @return Optional.empty if the first ball hasn't played yet
      */
     public Optional<Integer> getFirstBallScore() {
-        if (this.balls.size() >= 1) {
-            return Optional.of(this.balls.get(0));
-        } else {
-            return Optional.empty();
+        return toOptional(getFirstBallScoreValue());
+    }
+
+    /**
+     * @return the score of the first ball, or {@link #SCORE_NOT_AVAILABLE} if it hasn't been played yet
+     */
+    public int getFirstBallScoreValue() {
+        return this.numBalls >= 1 ? this.ball1 : SCORE_NOT_AVAILABLE;
+    }
+
+    /**
+     * @param ball index of the ball within the frame, starting at 0
+     * @return the score of the ball, or {@link #SCORE_NOT_AVAILABLE} if it hasn't been played yet
+     */
+    public int getBallScoreValue(final int ball) {
+        Preconditions.checkArgument(ball >= 0 && ball < MAX_BALLS_IN_LAST_FRAME, "Ball index is between 0 and 2");
+
+        if (ball >= this.numBalls) {
+            return SCORE_NOT_AVAILABLE;
+        }
+
+        switch (ball) {
+            case 0:
+                return this.ball1;
+            case 1:
+                return this.ball2;
+            default:
+                return this.ball3;
         }
     }
 
     public Optional<Integer> getTwoBallScore() {
-        if (this.balls.size() >= 2) {
-            return Optional.of(this.balls.get(0) + this.balls.get(1));
-        } else {
-            return Optional.empty();
-        }
+        return toOptional(getTwoBallScoreValue());
+    }
+
+    /**
+     * @return the sum of the first two balls, or {@link #SCORE_NOT_AVAILABLE} if they haven't both been played yet
+     */
+    public int getTwoBallScoreValue() {
+        return this.numBalls >= 2 ? this.ball1 + this.ball2 : SCORE_NOT_AVAILABLE;
     }
 
     public int getFrameId() {
         return this.frameId;
     }
+
+    private static Optional<Integer> toOptional(final int score) {
+        return score == SCORE_NOT_AVAILABLE ? Optional.empty() : Optional.of(score);
+    }
 }
@@ -0,0 +1,89 @@
+package com.marchex.bowling;
+
+/**
+ * The rules of {@link Frame#recordScore(int)} and {@link Frame#hasFinished()} as a state machine. A frame state is a
+ * small int made of the frame kind (regular or last frame), the number of balls played and the pins that matter for
+ * the next ball. Checking a roll and moving to the next state is a single lookup in a precomputed table.
+ */
+final class FrameStates {
+    /**
+     * Result of {@link #next(int, int)} when the roll would knock down more pins than are standing, the negated
+     * {@link RollStatus#OVERFLOW}.
+     */
+    static final int INVALID_SCORE = -RollStatus.OVERFLOW;
+
+    /**
+     * Result of {@link #next(int, int)} when the frame has already finished, the negated {@link RollStatus#FRAME_FULL}.
+     */
+    static final int FRAME_IS_FULL = -RollStatus.FRAME_FULL;
+
+    private static final int MAX_SCORE = 10;
+    private static final int NUM_SCORES = MAX_SCORE + 1;
+    private static final int LAST_FRAME_NUMBER = 9;
+
+    // regular frame: no ball, one ball of 0 to 9 pins, finished
+    private static final int REGULAR_START = 0;
+    private static final int REGULAR_ONE_BALL = 1;
+    private static final int REGULAR_FINISHED = REGULAR_ONE_BALL + MAX_SCORE;
+
+    // last frame: no ball, one ball of 0 to 10 pins, two balls with a third one to play, finished
+    private static final int LAST_START = REGULAR_FINISHED + 1;
+    private static final int LAST_ONE_BALL = LAST_START + 1;
+    private static final int LAST_THIRD_BALL = LAST_ONE_BALL + NUM_SCORES;
+    private static final int LAST_FINISHED = LAST_THIRD_BALL + 1;
+
+    private static final int NUM_STATES = LAST_FINISHED + 1;
+
+    private static final byte[] TRANSITIONS = new byte[NUM_STATES * NUM_SCORES];
+    private static final boolean[] FINISHED = new boolean[NUM_STATES];
+
+    static {
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            setTransition(REGULAR_START, score, score == MAX_SCORE ? REGULAR_FINISHED : REGULAR_ONE_BALL + score);
+            for (int first = 0; first < MAX_SCORE; first++) {
+                setTransition(REGULAR_ONE_BALL + first, score,
+                        first + score > MAX_SCORE ? INVALID_SCORE : REGULAR_FINISHED);
+            }
+            setTransition(REGULAR_FINISHED, score, FRAME_IS_FULL);
+
+            // the last frame accepts any score, it gets a third ball after a strike or a spare in the first two
+            setTransition(LAST_START, score, LAST_ONE_BALL + score);
+            for (int first = 0; first <= MAX_SCORE; first++) {
+                setTransition(LAST_ONE_BALL + first, score,
+                        first + score >= MAX_SCORE ? LAST_THIRD_BALL : LAST_FINISHED);
+            }
+            setTransition(LAST_THIRD_BALL, score, LAST_FINISHED);
+            setTransition(LAST_FINISHED, score, FRAME_IS_FULL);
+        }
+
+        FINISHED[REGULAR_FINISHED] = true;
+        FINISHED[LAST_FINISHED] = true;
+    }
+
+    private FrameStates() {
+    }
+
+    /**
+     * @return the state of a frame with no balls played yet
+     */
+    static int initialState(final int frameId) {
+        return frameId == LAST_FRAME_NUMBER ? LAST_START : REGULAR_START;
+    }
+
+    /**
+     * @param state a frame state
+     * @param score the next roll, between 0 and 10
+     * @return the state after the roll, {@link #INVALID_SCORE} or {@link #FRAME_IS_FULL}
+     */
+    static int next(final int state, final int score) {
+        return TRANSITIONS[state * NUM_SCORES + score];
+    }
+
+    static boolean isFinished(final int state) {
+        return FINISHED[state];
+    }
+
+    private static void setTransition(final int state, final int score, final int next) {
+        TRANSITIONS[state * NUM_SCORES + score] = (byte) next;
+    }
+}
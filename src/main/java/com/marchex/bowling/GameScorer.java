@@ -0,0 +1,209 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+/**
+ * Scores a whole game from its rolls in a single pass, without building a {@link ScoreBoard}. The rolls are validated
+ * with the same rules as {@link Frame#recordScore(int)} and the results are the same as recording the rolls one by one
+ * with {@link ScoreBoard#recordPoints(int)}, including the scores of a game that is still in progress. As with the
+ * score board, rolls after the last frame is finished are ignored.
+ */
+public final class GameScorer {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int LAST_FRAME_NUMBER = 9;
+    private static final int DEFAULT_TOTAL_SCORE = 10;
+
+    private GameScorer() {
+    }
+
+    /**
+     * Returns the total of all available scored frames after playing the given rolls.
+     *
+     * @param rolls  array holding the rolls
+     * @param offset index of the first roll of the game
+     * @param length number of rolls
+     * @return the same value as {@link ScoreBoard#scoreBoardTotal()} after recording the rolls
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public static int scoreGame(final int[] rolls, final int offset, final int length)
+            throws InvalidScoreException, FrameIsFullException {
+        return scoreGame(rolls, offset, length, null);
+    }
+
+    /**
+     * Returns the total of all available scored frames after playing the given rolls, and fills in the running total
+     * of every frame.
+     *
+     * @param rolls            array holding the rolls
+     * @param offset           index of the first roll of the game
+     * @param length           number of rolls
+     * @param cumulativeScores receives the same values as {@link ScoreBoard#cumulativeScoreAt(int)} for the 10 frames,
+     *                         may be null
+     * @return the same value as {@link ScoreBoard#scoreBoardTotal()} after recording the rolls
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public static int scoreGame(final int[] rolls, final int offset, final int length, final int[] cumulativeScores)
+            throws InvalidScoreException, FrameIsFullException {
+        return scoreGame(rolls, offset, length, cumulativeScores, 0);
+    }
+
+    /**
+     * Same as {@link #scoreGame(int[], int, int, int[])}, writing the running totals of the 10 frames starting at
+     * cumulativeOffset.
+     */
+    public static int scoreGame(final int[] rolls, final int offset, final int length, final int[] cumulativeScores,
+                                final int cumulativeOffset) throws InvalidScoreException, FrameIsFullException {
+        final int result = tryScoreGame(rolls, offset, length, cumulativeScores, cumulativeOffset);
+        if (result < 0) {
+            RollStatus.check(-result, LAST_FRAME_NUMBER);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #scoreGame(int[], int, int, int[], int)}, without throwing when a roll is rejected.
+     *
+     * @return the total of the game, or the negated {@link RollStatus} of the first rejected roll
+     */
+    public static int tryScoreGame(final int[] rolls, final int offset, final int length, final int[] cumulativeScores,
+                                   final int cumulativeOffset) {
+        Preconditions.checkPositionIndexes(offset, offset + length, rolls.length);
+        Preconditions.checkArgument(cumulativeScores == null
+                        || (cumulativeOffset >= 0 && cumulativeScores.length - cumulativeOffset >= NUMBER_OF_FRAMES),
+                "cumulativeScores needs room for 10 frames");
+
+        final int end = offset + length;
+        int total = 0;
+        int cumulative = 0;
+        int index = offset;
+
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            int frameScore = Frame.SCORE_NOT_AVAILABLE;
+
+            if (index < end) {
+                final int first = rolls[index];
+                if (isOutOfRange(first)) {
+                    return -RollStatus.OUT_OF_RANGE;
+                }
+
+                if (frameId == LAST_FRAME_NUMBER) {
+                    // the last frame gets a third ball when any ball is a strike or the first two balls add up to at
+                    // least 10, and it is only scored once it has finished
+                    if (index + 1 < end) {
+                        final int second = rolls[index + 1];
+                        if (isOutOfRange(second)) {
+                            return -RollStatus.OUT_OF_RANGE;
+                        }
+
+                        if (first + second < DEFAULT_TOTAL_SCORE) {
+                            frameScore = first + second;
+                        } else if (index + 2 < end) {
+                            if (isOutOfRange(rolls[index + 2])) {
+                                return -RollStatus.OUT_OF_RANGE;
+                            }
+                            frameScore = first + second + rolls[index + 2];
+                        }
+                    }
+                } else if (first == DEFAULT_TOTAL_SCORE) {
+                    frameScore = strikeScore(rolls, index + 1, end, frameId);
+                    index += 1;
+                } else if (index + 1 >= end) {
+                    index += 1;
+                } else {
+                    final int second = rolls[index + 1];
+                    if (isOutOfRange(second)) {
+                        return -RollStatus.OUT_OF_RANGE;
+                    }
+                    if (first + second > DEFAULT_TOTAL_SCORE) {
+                        return -RollStatus.OVERFLOW;
+                    }
+
+                    if (first + second == DEFAULT_TOTAL_SCORE) {
+                        frameScore = index + 2 < end ? DEFAULT_TOTAL_SCORE + rolls[index + 2] : Frame.SCORE_NOT_AVAILABLE;
+                    } else {
+                        frameScore = first + second;
+                    }
+                    index += 2;
+                }
+            }
+
+            if (frameScore != Frame.SCORE_NOT_AVAILABLE) {
+                total += frameScore;
+            }
+
+            cumulative = frameScore == Frame.SCORE_NOT_AVAILABLE || cumulative == Frame.SCORE_NOT_AVAILABLE
+                    ? Frame.SCORE_NOT_AVAILABLE
+                    : cumulative + frameScore;
+            if (cumulativeScores != null) {
+                cumulativeScores[cumulativeOffset + frameId] = cumulative;
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Scores one frame of rolls that have already been checked, with the same result as
+     * {@link Frame#getFrameScoreValue()} on a score board fed the same rolls.
+     *
+     * @param rolls   the rolls of the game
+     * @param index   index of the first roll of the frame, which must have one
+     * @param end     number of rolls of the game
+     * @param frameId the frame
+     * @return the score of the frame, or {@link Frame#SCORE_NOT_AVAILABLE}
+     */
+    static int scoreFrame(final int[] rolls, final int index, final int end, final int frameId) {
+        final int first = rolls[index];
+        if (frameId == LAST_FRAME_NUMBER) {
+            if (index + 1 >= end) {
+                return Frame.SCORE_NOT_AVAILABLE;
+            }
+            final int second = rolls[index + 1];
+            if (first + second < DEFAULT_TOTAL_SCORE) {
+                return first + second;
+            }
+            return index + 2 < end ? first + second + rolls[index + 2] : Frame.SCORE_NOT_AVAILABLE;
+        }
+
+        if (first == DEFAULT_TOTAL_SCORE) {
+            return strikeScore(rolls, index + 1, end, frameId);
+        }
+        if (index + 1 >= end) {
+            return Frame.SCORE_NOT_AVAILABLE;
+        }
+        final int second = rolls[index + 1];
+        if (first + second == DEFAULT_TOTAL_SCORE) {
+            return index + 2 < end ? DEFAULT_TOTAL_SCORE + rolls[index + 2] : Frame.SCORE_NOT_AVAILABLE;
+        }
+        return first + second;
+    }
+
+    /**
+     * A strike is scored as soon as the next frame has a ball, with the balls known so far, except when the next frame
+     * is also a strike (then the first ball of the frame after is needed) or is the last frame (then its first two
+     * balls are needed). This follows {@link Frame#setBonus(Frame)} and {@link Frame#setBonus(Frame, Frame)}.
+     */
+    private static int strikeScore(final int[] rolls, final int next, final int end, final int frameId) {
+        if (next >= end) {
+            return Frame.SCORE_NOT_AVAILABLE;
+        }
+
+        if (frameId + 1 == LAST_FRAME_NUMBER) {
+            return next + 1 < end ? DEFAULT_TOTAL_SCORE + rolls[next] + rolls[next + 1] : Frame.SCORE_NOT_AVAILABLE;
+        }
+
+        if (rolls[next] == DEFAULT_TOTAL_SCORE) {
+            return next + 1 < end ? DEFAULT_TOTAL_SCORE * 2 + rolls[next + 1] : Frame.SCORE_NOT_AVAILABLE;
+        }
+
+        return DEFAULT_TOTAL_SCORE + rolls[next] + (next + 1 < end ? rolls[next + 1] : 0);
+    }
+
+    private static boolean isOutOfRange(final int score) {
+        return score < 0 || score > DEFAULT_TOTAL_SCORE;
+    }
+}
@@ -0,0 +1,208 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.util.Arrays;
+
+/**
+ * This class encapsulates the score boards of all the bowlers sharing a lane. Players take turns frame by frame: a
+ * player bowls until their frame is finished and then it is the next player's turn.
+ * <p>
+ * All players are kept in shared primitive arrays indexed by player instead of one {@link ScoreBoard} per player. The
+ * scores are the same as the ones of a ScoreBoard fed with the player's rolls.
+ */
+public class LaneSession {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int MAX_ROLLS_PER_GAME = 21;
+    private static final int MAX_POINTS = 10;
+
+    private final int numPlayers;
+    private int currentPlayer;
+
+    // player p's rolls start at p * MAX_ROLLS_PER_GAME, its frames at p * NUMBER_OF_FRAMES
+    private final int[] rolls;
+    private final int[] rollCounts;
+    private final int[] frameStarts;
+    private final int[] currentFrameIds;
+    // state of the current frame of every player, see FrameStates
+    private final int[] frameStates;
+    private final int[] cumulativeScores;
+    private final int[] totals;
+
+    public LaneSession(final int numPlayers) {
+        Preconditions.checkArgument(numPlayers > 0, "A lane session needs at least one player");
+
+        this.numPlayers = numPlayers;
+        this.currentPlayer = 0;
+        this.rolls = new int[numPlayers * MAX_ROLLS_PER_GAME];
+        this.rollCounts = new int[numPlayers];
+        this.frameStarts = new int[numPlayers * NUMBER_OF_FRAMES];
+        this.currentFrameIds = new int[numPlayers];
+        this.frameStates = new int[numPlayers];
+        Arrays.fill(this.frameStates, FrameStates.initialState(0));
+        this.cumulativeScores = new int[numPlayers * NUMBER_OF_FRAMES];
+        this.totals = new int[numPlayers];
+        Arrays.fill(this.cumulativeScores, Frame.SCORE_NOT_AVAILABLE);
+    }
+
+    /**
+     * Record the next ball points for the player whose turn it is.
+     *
+     * @param points number of points to add
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public void recordPoints(final int points) throws InvalidScoreException, FrameIsFullException {
+        final int frameId = isComplete() ? NUMBER_OF_FRAMES : this.currentFrameIds[this.currentPlayer];
+        RollStatus.check(tryRecordPoints(points), frameId);
+    }
+
+    /**
+     * Record the next ball points for the player whose turn it is, without throwing when they are rejected.
+     *
+     * @param points number of points to add
+     * @return a {@link RollStatus} code, see {@link ScoreBoard#tryRecordPoints(int)}
+     */
+    public int tryRecordPoints(final int points) {
+        if (isComplete()) {
+            return RollStatus.GAME_COMPLETE;
+        }
+        if (points < 0 || points > MAX_POINTS) {
+            return RollStatus.OUT_OF_RANGE;
+        }
+
+        final int player = this.currentPlayer;
+        final int frameId = this.currentFrameIds[player];
+        final int nextState = FrameStates.next(this.frameStates[player], points);
+        if (nextState < 0) {
+            return -nextState;
+        }
+
+        final int rollsOffset = player * MAX_ROLLS_PER_GAME;
+        final int rollCount = this.rollCounts[player];
+        this.rolls[rollsOffset + rollCount] = points;
+        this.rollCounts[player] = rollCount + 1;
+        this.totals[player] = GameScorer.tryScoreGame(this.rolls, rollsOffset, rollCount + 1,
+                this.cumulativeScores, player * NUMBER_OF_FRAMES);
+
+        this.frameStates[player] = nextState;
+        if (FrameStates.isFinished(nextState)) {
+            this.currentFrameIds[player] = frameId + 1;
+            if (frameId + 1 < NUMBER_OF_FRAMES) {
+                this.frameStarts[player * NUMBER_OF_FRAMES + frameId + 1] = rollCount + 1;
+                this.frameStates[player] = FrameStates.initialState(frameId + 1);
+            }
+            this.currentPlayer = (player + 1) % this.numPlayers;
+        }
+        return RollStatus.OK;
+    }
+
+    /**
+     * Record the next ball points, checking that it is the given player's turn.
+     *
+     * @param player the player who rolled
+     * @param points number of points to add
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public void recordPoints(final int player, final int points) throws InvalidScoreException, FrameIsFullException {
+        checkPlayer(player);
+        Preconditions.checkState(isComplete() || player == this.currentPlayer,
+                "It is player %s's turn, not player %s's", this.currentPlayer, player);
+
+        recordPoints(points);
+    }
+
+    /**
+     * @return the player whose turn it is
+     */
+    public int getCurrentPlayer() {
+        return this.currentPlayer;
+    }
+
+    public int getNumPlayers() {
+        return this.numPlayers;
+    }
+
+    /**
+     * Returns true when every player has finished their game
+     *
+     * @return true when the score boards of all players are filled
+     */
+    public boolean isComplete() {
+        return this.currentFrameIds[this.numPlayers - 1] == NUMBER_OF_FRAMES;
+    }
+
+    public boolean isComplete(final int player) {
+        checkPlayer(player);
+
+        return this.currentFrameIds[player] == NUMBER_OF_FRAMES;
+    }
+
+    public int getCurrentFrameId(final int player) {
+        checkPlayer(player);
+
+        return this.currentFrameIds[player];
+    }
+
+    /**
+     * @return the same value as {@link ScoreBoard#scoreBoardTotal()} for the player
+     */
+    public int scoreBoardTotal(final int player) {
+        checkPlayer(player);
+
+        return this.totals[player];
+    }
+
+    /**
+     * @return the same value as {@link ScoreBoard#cumulativeScoreAt(int)} for the player
+     */
+    public int cumulativeScoreAt(final int player, final int frameId) {
+        checkPlayer(player);
+        checkFrameId(frameId);
+
+        return this.cumulativeScores[player * NUMBER_OF_FRAMES + frameId];
+    }
+
+    /**
+     * @return the number of balls the player has played in the frame
+     */
+    public int getNumBalls(final int player, final int frameId) {
+        checkPlayer(player);
+        checkFrameId(frameId);
+
+        final int currentFrameId = this.currentFrameIds[player];
+        if (frameId > currentFrameId) {
+            return 0;
+        }
+
+        final int frameEnd = frameId + 1 <= currentFrameId && frameId + 1 < NUMBER_OF_FRAMES
+                ? this.frameStarts[player * NUMBER_OF_FRAMES + frameId + 1]
+                : this.rollCounts[player];
+        return frameEnd - this.frameStarts[player * NUMBER_OF_FRAMES + frameId];
+    }
+
+    /**
+     * @param ball index of the ball within the frame, starting at 0
+     * @return the points of the ball, or {@link Frame#SCORE_NOT_AVAILABLE} if it hasn't been played yet
+     */
+    public int getBallScore(final int player, final int frameId, final int ball) {
+        Preconditions.checkArgument(ball >= 0, "Ball index cannot be negative");
+
+        if (ball >= getNumBalls(player, frameId)) {
+            return Frame.SCORE_NOT_AVAILABLE;
+        }
+
+        return this.rolls[player * MAX_ROLLS_PER_GAME + this.frameStarts[player * NUMBER_OF_FRAMES + frameId] + ball];
+    }
+
+    private void checkPlayer(final int player) {
+        Preconditions.checkElementIndex(player, this.numPlayers, "player");
+    }
+
+    private static void checkFrameId(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < NUMBER_OF_FRAMES, "Valid FrameID is between 0 and 9.");
+    }
+}
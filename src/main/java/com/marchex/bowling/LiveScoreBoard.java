@@ -0,0 +1,40 @@
+package com.marchex.bowling;
+
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+/**
+ * This class encapsulates a score board that is written by one thread, typically the lane, and displayed by others.
+ * <p>
+ * After every roll an immutable {@link ScoreBoardSnapshot} is published through a volatile field, so display threads
+ * get a consistent view of the game with {@link #getSnapshot()} without taking a lock. Rolls must be recorded from a
+ * single thread at a time.
+ */
+public class LiveScoreBoard {
+    private final ScoreBoard board;
+    private volatile ScoreBoardSnapshot snapshot;
+
+    public LiveScoreBoard() {
+        this.board = new ScoreBoard();
+        this.snapshot = this.board.snapshot();
+    }
+
+    /**
+     * Record the next ball points and publish the new state of the game.
+     *
+     * @param points number of points to add
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public void recordPoints(final int points) throws InvalidScoreException, FrameIsFullException {
+        this.board.recordPoints(points);
+        this.snapshot = this.board.snapshot();
+    }
+
+    /**
+     * @return the state of the game after the latest roll
+     */
+    public ScoreBoardSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+}
@@ -0,0 +1,135 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps the state of many games outside of the heap, one fixed size record per game in a single direct buffer, so
+ * that millions of games in progress cost the garbage collector nothing. Games are read and written in place through
+ * an {@link OffHeapScoreBoard}.
+ * <p>
+ * Record layout, 64 bytes per slot:
+ * <pre>
+ * 0   number of rolls (byte)        1   current frame (byte)
+ * 2   state of the current frame, see {@link FrameStates} (byte)
+ * 3   1 while the slot is in use (byte)
+ * 4   the rolls (21 bytes), or the next free slot (int) while the slot is free
+ * 26  total (short)                 28  running total of the 10 frames (10 shorts)
+ * </pre>
+ * Released slots are kept in a free list threaded through the records and handed out again before unused ones.
+ * Allocating and releasing slots is thread safe. Like a {@link ScoreBoard}, a game must be played from one thread at a
+ * time.
+ */
+public class OffHeapGameStore {
+    static final int RECORD_SIZE = 64;
+
+    static final int NUM_ROLLS_OFFSET = 0;
+    static final int CURRENT_FRAME_OFFSET = 1;
+    static final int FRAME_STATE_OFFSET = 2;
+    static final int IN_USE_OFFSET = 3;
+    static final int ROLLS_OFFSET = 4;
+    static final int NEXT_FREE_OFFSET = 4;
+    static final int TOTAL_OFFSET = 26;
+    static final int CUMULATIVE_SCORES_OFFSET = 28;
+
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int NO_SLOT = -1;
+
+    private final ByteBuffer records;
+    private final int capacity;
+
+    // guarded by this
+    private int freeList;
+    private int firstUnused;
+    private int size;
+
+    /**
+     * @param capacity maximum number of games in the store at once
+     */
+    public OffHeapGameStore(final int capacity) {
+        Preconditions.checkArgument(capacity > 0 && capacity <= Integer.MAX_VALUE / RECORD_SIZE,
+                "capacity must be between 1 and %s", Integer.MAX_VALUE / RECORD_SIZE);
+
+        this.records = ByteBuffer.allocateDirect(capacity * RECORD_SIZE);
+        this.capacity = capacity;
+        this.freeList = NO_SLOT;
+    }
+
+    /**
+     * @return the slot of a new game, with no rolls
+     * @throws IllegalStateException when the store is full
+     */
+    public synchronized int allocate() {
+        final int slot;
+        if (this.freeList != NO_SLOT) {
+            slot = this.freeList;
+            this.freeList = this.records.getInt(slot * RECORD_SIZE + NEXT_FREE_OFFSET);
+        } else {
+            Preconditions.checkState(this.firstUnused < this.capacity, "The store is full");
+            slot = this.firstUnused++;
+        }
+
+        clear(slot);
+        this.records.put(slot * RECORD_SIZE + IN_USE_OFFSET, (byte) 1);
+        this.size++;
+        return slot;
+    }
+
+    /**
+     * Hands the slot of a game back to the store, typically once the game is complete. The slot must not be used
+     * after it is released, it will hold a new game.
+     */
+    public synchronized void release(final int slot) {
+        checkInUse(slot);
+
+        this.records.put(slot * RECORD_SIZE + IN_USE_OFFSET, (byte) 0);
+        this.records.putInt(slot * RECORD_SIZE + NEXT_FREE_OFFSET, this.freeList);
+        this.freeList = slot;
+        this.size--;
+    }
+
+    /**
+     * @return a score board reading and writing the game in the slot
+     */
+    public OffHeapScoreBoard board(final int slot) {
+        return new OffHeapScoreBoard(this, slot);
+    }
+
+    /**
+     * @return number of games in the store
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    ByteBuffer records() {
+        return this.records;
+    }
+
+    void checkInUse(final int slot) {
+        Preconditions.checkElementIndex(slot, this.capacity, "slot");
+        // not checkState with a message template, its varargs would allocate on every call
+        if (this.records.get(slot * RECORD_SIZE + IN_USE_OFFSET) != 1) {
+            throw new IllegalStateException("Slot " + slot + " is not in use");
+        }
+    }
+
+    /**
+     * Puts a slot back to the state of a new game.
+     */
+    void clear(final int slot) {
+        final int offset = slot * RECORD_SIZE;
+        for (int i = 0; i < RECORD_SIZE; i += 8) {
+            this.records.putLong(offset + i, 0);
+        }
+        this.records.put(offset + FRAME_STATE_OFFSET, (byte) FrameStates.initialState(0));
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            this.records.putShort(offset + CUMULATIVE_SCORES_OFFSET + 2 * frameId, (short) Frame.SCORE_NOT_AVAILABLE);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A view of a game in an {@link OffHeapGameStore} with the same methods and results as {@link ScoreBoard}, reading
+ * and writing the record of the game in place. A view only holds the slot and a few scratch buffers, and can be moved
+ * to another slot with {@link #moveTo(int)}, so a single view can serve every game played on a thread.
+ * <p>
+ * Every roll is checked with the {@link FrameStates} table like {@link Frame#recordScore(int)}, and the frame scores
+ * are worked out again from the rolls of the record with {@link GameScorer}, so they always match a score board fed
+ * the same rolls. Listeners, metrics and undo are not supported.
+ */
+public final class OffHeapScoreBoard {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int MAX_ROLLS = 21;
+    private static final int ALL_PINS = 10;
+
+    private final OffHeapGameStore store;
+    private final ByteBuffer records;
+    private final int[] rolls;
+    private final int[] cumulativeScores;
+    private int slot;
+    private int offset;
+
+    OffHeapScoreBoard(final OffHeapGameStore store, final int slot) {
+        this.store = store;
+        this.records = store.records();
+        this.rolls = new int[MAX_ROLLS];
+        this.cumulativeScores = new int[NUMBER_OF_FRAMES];
+        moveTo(slot);
+    }
+
+    /**
+     * Points the view at another game of the same store.
+     *
+     * @param slot a slot returned by {@link OffHeapGameStore#allocate()}
+     * @return this view
+     */
+    public OffHeapScoreBoard moveTo(final int slot) {
+        this.store.checkInUse(slot);
+
+        this.slot = slot;
+        this.offset = slot * OffHeapGameStore.RECORD_SIZE;
+        return this;
+    }
+
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * See {@link ScoreBoard#recordPoints(int)}.
+     */
+    public void recordPoints(final int points) throws InvalidScoreException, FrameIsFullException {
+        final int frameId = getCurrentFrameId();
+        RollStatus.check(tryRecordPoints(points), frameId);
+    }
+
+    /**
+     * See {@link ScoreBoard#tryRecordPoints(int)}. This never allocates.
+     */
+    public int tryRecordPoints(final int points) {
+        if (isComplete()) {
+            return RollStatus.GAME_COMPLETE;
+        }
+        if (points < 0 || points > ALL_PINS) {
+            return RollStatus.OUT_OF_RANGE;
+        }
+
+        final int nextState = FrameStates.next(this.records.get(this.offset + OffHeapGameStore.FRAME_STATE_OFFSET),
+                points);
+        if (nextState < 0) {
+            return -nextState;
+        }
+
+        final int numRolls = getNumRolls();
+        this.records.put(this.offset + OffHeapGameStore.ROLLS_OFFSET + numRolls, (byte) points);
+        this.records.put(this.offset + OffHeapGameStore.NUM_ROLLS_OFFSET, (byte) (numRolls + 1));
+        if (FrameStates.isFinished(nextState)) {
+            final int nextFrameId = getCurrentFrameId() + 1;
+            this.records.put(this.offset + OffHeapGameStore.CURRENT_FRAME_OFFSET, (byte) nextFrameId);
+            this.records.put(this.offset + OffHeapGameStore.FRAME_STATE_OFFSET,
+                    (byte) (nextFrameId < NUMBER_OF_FRAMES ? FrameStates.initialState(nextFrameId) : nextState));
+        } else {
+            this.records.put(this.offset + OffHeapGameStore.FRAME_STATE_OFFSET, (byte) nextState);
+        }
+
+        updateTotals(numRolls + 1);
+        return RollStatus.OK;
+    }
+
+    /**
+     * Clears the game, see {@link ScoreBoard#reset()}.
+     */
+    public void reset() {
+        this.store.clear(this.slot);
+        this.records.put(this.offset + OffHeapGameStore.IN_USE_OFFSET, (byte) 1);
+    }
+
+    public int getNumRolls() {
+        return this.records.get(this.offset + OffHeapGameStore.NUM_ROLLS_OFFSET);
+    }
+
+    /**
+     * @param index index of the roll, from 0 to {@link #getNumRolls()} - 1
+     * @return the points of the roll
+     */
+    public int getRoll(final int index) {
+        Preconditions.checkElementIndex(index, getNumRolls(), "index");
+
+        return this.records.get(this.offset + OffHeapGameStore.ROLLS_OFFSET + index);
+    }
+
+    public boolean isComplete() {
+        return getCurrentFrameId() == NUMBER_OF_FRAMES;
+    }
+
+    public int scoreBoardTotal() {
+        return this.records.getShort(this.offset + OffHeapGameStore.TOTAL_OFFSET);
+    }
+
+    /**
+     * See {@link ScoreBoard#cumulativeScoreAt(int)}.
+     */
+    public int cumulativeScoreAt(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < NUMBER_OF_FRAMES, "Valid FrameID is between 0 and 9.");
+
+        return this.records.getShort(this.offset + OffHeapGameStore.CUMULATIVE_SCORES_OFFSET + 2 * frameId);
+    }
+
+    public int getCurrentFrameId() {
+        return this.records.get(this.offset + OffHeapGameStore.CURRENT_FRAME_OFFSET);
+    }
+
+    /**
+     * @return an immutable copy of the game, the same as {@link ScoreBoard#snapshot()} after the same rolls
+     */
+    public ScoreBoardSnapshot snapshot() {
+        final int numRolls = readRolls();
+        final int[] frameStarts = new int[NUMBER_OF_FRAMES + 1];
+        int index = 0;
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            frameStarts[frameId] = index;
+            if (frameId < NUMBER_OF_FRAMES - 1) {
+                index = Math.min(numRolls, index + (index < numRolls && this.rolls[index] == ALL_PINS ? 1 : 2));
+            } else {
+                index = numRolls;
+            }
+        }
+        frameStarts[NUMBER_OF_FRAMES] = numRolls;
+
+        final int[] cumulativeScores = new int[NUMBER_OF_FRAMES];
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            cumulativeScores[frameId] = cumulativeScoreAt(frameId);
+        }
+        final int[] rolls = new int[numRolls];
+        System.arraycopy(this.rolls, 0, rolls, 0, numRolls);
+
+        return new ScoreBoardSnapshot(rolls, frameStarts, cumulativeScores, scoreBoardTotal(), getCurrentFrameId());
+    }
+
+    private int readRolls() {
+        final int numRolls = getNumRolls();
+        for (int i = 0; i < numRolls; i++) {
+            this.rolls[i] = this.records.get(this.offset + OffHeapGameStore.ROLLS_OFFSET + i);
+        }
+        return numRolls;
+    }
+
+    private void updateTotals(final int numRolls) {
+        readRolls();
+        final int total = GameScorer.tryScoreGame(this.rolls, 0, numRolls, this.cumulativeScores, 0);
+
+        this.records.putShort(this.offset + OffHeapGameStore.TOTAL_OFFSET, (short) total);
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            this.records.putShort(this.offset + OffHeapGameStore.CUMULATIVE_SCORES_OFFSET + 2 * frameId,
+                    (short) this.cumulativeScores[frameId]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.marchex.bowling;
+
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+/**
+ * Result codes of recording a roll without exceptions, see {@link ScoreBoard#tryRecordPoints(int)}.
+ */
+public final class RollStatus {
+    /**
+     * The roll was recorded.
+     */
+    public static final int OK = 0;
+
+    /**
+     * The roll knocks down more pins than are standing in the frame.
+     */
+    public static final int OVERFLOW = 1;
+
+    /**
+     * All the balls of the frame have been played.
+     */
+    public static final int FRAME_FULL = 2;
+
+    /**
+     * The game is over.
+     */
+    public static final int GAME_COMPLETE = 3;
+
+    /**
+     * The roll is not between 0 and 10.
+     */
+    public static final int OUT_OF_RANGE = 4;
+
+    private static final String[] MESSAGES = {
+            "OK",
+            "Cannot add a score that makes the frame blow up beyond 10",
+            "The frame is full",
+            "The game is complete",
+            "You can only add points from 0-10",
+    };
+
+    private RollStatus() {
+    }
+
+    /**
+     * @return a description of the status
+     */
+    public static String getMessage(final int status) {
+        return status >= 0 && status < MESSAGES.length ? MESSAGES[status] : "Unknown status " + status;
+    }
+
+    /**
+     * Turns a status into the exception the checked API throws for it.
+     *
+     * @param status  the result of recording a roll
+     * @param frameId the frame the roll went to, for the error message
+     */
+    static void check(final int status, final int frameId) throws InvalidScoreException, FrameIsFullException {
+        switch (status) {
+            case OVERFLOW:
+                throw new InvalidScoreException(MESSAGES[OVERFLOW]);
+            case FRAME_FULL:
+                throw new FrameIsFullException("The frame with frameId " + frameId + " is full");
+            case OUT_OF_RANGE:
+                throw new IllegalArgumentException(MESSAGES[OUT_OF_RANGE]);
+            default:
+                break;
+        }
+    }
+}
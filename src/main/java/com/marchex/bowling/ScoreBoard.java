@@ -1,31 +1,118 @@
 package com.marchex.bowling;
 
+import com.google.common.base.Preconditions;
 import com.marchex.bowling.exceptions.FrameIsFullException;
 import com.marchex.bowling.exceptions.InvalidScoreException;
+import com.marchex.bowling.metrics.ScoringMetrics;
 
-import java.util.LinkedList;
-import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This class encapsulates a score board for a bowling game for one user.
  */
 public class ScoreBoard {
     private static final int NUMBER_OF_FRAMES = 10;
+    private static final int MAX_ROLLS = 21;
+    private static final int LAST_FRAME_NUMBER = NUMBER_OF_FRAMES - 1;
+    private static final int ALL_PINS = 10;
+    private static final int MAX_FRAME_SCORE = 30;
 
-    private LinkedList<Frame> frames;
+    // layout of a journal entry: the points, the frame they went to, the state of that frame before the roll and the
+    // bonuses of the two frames before it, plus one so that SCORE_NOT_AVAILABLE fits in 5 bits
+    private static final int POINTS_SHIFT = 0;
+    private static final int FRAME_SHIFT = 4;
+    private static final int STATE_SHIFT = 8;
+    private static final int BONUS1_SHIFT = 13;
+    private static final int BONUS2_SHIFT = 18;
+    private static final int NIBBLE_MASK = 0xF;
+    private static final int FIVE_BIT_MASK = 0x1F;
+
+    private static final ScoreBoardListener[] NO_LISTENERS = new ScoreBoardListener[0];
+
+    private final Frame[] frames;
+    private final List<Frame> frameList;
 
     private int currentFrameId;
 
+    // per frame score and running total, kept up to date by recordPoints so reads don't walk the frames
+    private final int[] frameScores;
+    private final int[] cumulativeScores;
+    private int total;
+
+    // one packed entry per recorded roll, so that the last roll can be taken back without replaying the game
+    private final int[] journal;
+    private int numRolls;
+
+    // copied on write, so that firing events with no listeners is a single length check
+    private ScoreBoardListener[] listeners = NO_LISTENERS;
+
+    // null when the metrics are disabled
+    private final ScoringMetrics metrics;
+
+    // the points of every roll and the index of the first roll of every frame, null in ScoringMode.EAGER
+    private final int[] rolls;
+    private final int[] frameStarts;
+
+    // the frame scores, running totals and total are up to date before this frame, always NUMBER_OF_FRAMES when eager
+    private int staleFrom;
+
     public ScoreBoard() {
+        this(null, ScoringMode.EAGER);
+    }
+
+    /**
+     * @param metrics the metrics to count the rolls of this board in, or null to not count them
+     */
+    public ScoreBoard(final ScoringMetrics metrics) {
+        this(metrics, ScoringMode.EAGER);
+    }
+
+    public ScoreBoard(final ScoringMode mode) {
+        this(null, mode);
+    }
+
+    /**
+     * In {@link ScoringMode#LAZY} the frames returned by {@link #getFrames()} hold the balls but no bonuses, use
+     * {@link #cumulativeScoreAt(int)} for the scores. Reading the scores of a lazy board updates its cache, so even
+     * reads must come from the thread recording the points.
+     *
+     * @param metrics the metrics to count the rolls of this board in, or null to not count them
+     * @param mode    how the frame scores are kept up to date
+     */
+    public ScoreBoard(final ScoringMetrics metrics, final ScoringMode mode) {
+        Preconditions.checkNotNull(mode, "mode");
+
+        this.metrics = metrics;
+        this.rolls = mode == ScoringMode.LAZY ? new int[MAX_ROLLS] : null;
+        this.frameStarts = mode == ScoringMode.LAZY ? new int[NUMBER_OF_FRAMES] : null;
+        this.frameScores = new int[NUMBER_OF_FRAMES];
+        this.cumulativeScores = new int[NUMBER_OF_FRAMES];
+        this.journal = new int[MAX_ROLLS];
+        this.frames = new Frame[NUMBER_OF_FRAMES];
+        for (int i = 0; i < NUMBER_OF_FRAMES; i++) {
+            this.frames[i] = new Frame(i);
+        }
+        this.frameList = Collections.unmodifiableList(Arrays.asList(this.frames));
+        reset();
+    }
+
+    /**
+     * Clears the score board in place for a new game, without allocating. Frames returned by {@link #getFrames()} are
+     * reused and are cleared as well.
+     */
+    public void reset() {
         this.currentFrameId = 0;
+        this.total = 0;
+        this.numRolls = 0;
+        this.staleFrom = NUMBER_OF_FRAMES;
+        Arrays.fill(this.frameScores, Frame.SCORE_NOT_AVAILABLE);
+        Arrays.fill(this.cumulativeScores, Frame.SCORE_NOT_AVAILABLE);
 
-        this.frames = new LinkedList<>();
-        IntStream.range(0, NUMBER_OF_FRAMES)
-                .boxed()
-                .forEach(i -> {
-                    this.frames.add(new Frame(i));
-                });
+        for (final Frame frame : this.frames) {
+            frame.reset();
+        }
     }
 
     /**
@@ -36,17 +123,191 @@ public class ScoreBoard {
      * @throws FrameIsFullException
      */
     public void recordPoints(final int points) throws InvalidScoreException, FrameIsFullException {
+        final int frameId = this.currentFrameId;
+        RollStatus.check(tryRecordPoints(points), frameId);
+    }
+
+    /**
+     * Record the next ball points without throwing when they are rejected. This never allocates.
+     *
+     * @param points number of points to add
+     * @return {@link RollStatus#OK} when the points are recorded, otherwise {@link RollStatus#GAME_COMPLETE},
+     * {@link RollStatus#OUT_OF_RANGE}, {@link RollStatus#OVERFLOW} or {@link RollStatus#FRAME_FULL}
+     */
+    public int tryRecordPoints(final int points) {
+        if (this.metrics == null) {
+            return record(points);
+        }
+
+        final int frameId = this.currentFrameId;
+        final long start = System.nanoTime();
+        final int status = record(points);
+        this.metrics.rollProcessed(status, System.nanoTime() - start);
+        if (this.currentFrameId != frameId) {
+            this.metrics.frameFinished(this.frames[frameId]);
+        }
+        return status;
+    }
+
+    private int record(final int points) {
         if (this.isComplete()) {
-            return;
+            return RollStatus.GAME_COMPLETE;
+        }
+
+        final Frame currentFrame = this.frames[this.currentFrameId];
+        final int entry = journalEntry(points, currentFrame);
+        final int status = currentFrame.tryRecordScore(points);
+        if (status != RollStatus.OK) {
+            return status;
         }
+        this.journal[this.numRolls++] = entry;
 
-        final Frame currentFrame = this.frames.get(this.currentFrameId);
-        currentFrame.recordScore(points);
-        tryUpdateLastFrameBonus(currentFrame);
+        final int frameId = this.currentFrameId;
+        final int changedFrames;
+        if (this.rolls == null) {
+            tryUpdateLastFrameBonus(currentFrame);
+            changedFrames = updateTotals();
+        } else {
+            this.rolls[this.numRolls - 1] = points;
+            if (currentFrame.getNumBalls() == 1) {
+                this.frameStarts[frameId] = this.numRolls - 1;
+            }
+            invalidateFrom(frameId);
+            changedFrames = this.listeners.length != 0 ? resolveScores() : 0;
+        }
 
-        if (this.frames.get(this.currentFrameId).hasFinished()) {
+        final boolean finished = currentFrame.hasFinished();
+        if (finished) {
             this.currentFrameId++;
         }
+        if (this.listeners.length != 0) {
+            fireRollRecorded(frameId, points, changedFrames, finished);
+        }
+        return RollStatus.OK;
+    }
+
+    /**
+     * Registers a listener for the changes of this score board. Listeners are kept when the board is reset.
+     */
+    public void addListener(final ScoreBoardListener listener) {
+        Preconditions.checkNotNull(listener, "listener");
+
+        final ScoreBoardListener[] added = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        added[this.listeners.length] = listener;
+        this.listeners = added;
+    }
+
+    /**
+     * @return false if the listener was not registered
+     */
+    public boolean removeListener(final ScoreBoardListener listener) {
+        for (int i = 0; i < this.listeners.length; i++) {
+            if (this.listeners[i] == listener) {
+                final ScoreBoardListener[] removed = new ScoreBoardListener[this.listeners.length - 1];
+                System.arraycopy(this.listeners, 0, removed, 0, i);
+                System.arraycopy(this.listeners, i + 1, removed, i, removed.length - i);
+                this.listeners = removed.length == 0 ? NO_LISTENERS : removed;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void removeAllListeners() {
+        this.listeners = NO_LISTENERS;
+    }
+
+    /**
+     * Takes back the last recorded roll, together with the bonuses it gave to the frames before it. This takes
+     * constant time and never allocates.
+     *
+     * @return false if no roll has been recorded
+     */
+    public boolean undoLastRoll() {
+        if (this.numRolls == 0) {
+            return false;
+        }
+
+        final int entry = this.journal[--this.numRolls];
+        final int frameId = (entry >>> FRAME_SHIFT) & NIBBLE_MASK;
+        this.frames[frameId].undoScore((entry >>> STATE_SHIFT) & FIVE_BIT_MASK);
+        if (frameId >= 1) {
+            this.frames[frameId - 1].restoreBonus(((entry >>> BONUS1_SHIFT) & FIVE_BIT_MASK) - 1);
+        }
+        if (frameId >= 2) {
+            this.frames[frameId - 2].restoreBonus(((entry >>> BONUS2_SHIFT) & FIVE_BIT_MASK) - 1);
+        }
+
+        this.currentFrameId = frameId;
+        if (this.rolls == null) {
+            updateTotals();
+        } else {
+            invalidateFrom(frameId);
+        }
+
+        for (final ScoreBoardListener listener : this.listeners) {
+            listener.rollUndone(this, frameId);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the points of an earlier roll, e.g. one the pinsetter misread. The score board is left unchanged when
+     * the correction is rejected.
+     *
+     * @param index  index of the roll in the game, starting at 0
+     * @param points the corrected number of points
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     * @throws IllegalArgumentException when the points are not between 0 and 10, or when the game would end before
+     *                                  the rolls after the corrected one are recorded again
+     */
+    public void correctRoll(final int index, final int points) throws InvalidScoreException, FrameIsFullException {
+        final int status = tryCorrectRoll(index, points);
+        if (status == RollStatus.GAME_COMPLETE) {
+            throw new IllegalArgumentException("The game would be complete before the rolls after roll " + index
+                    + " are recorded again");
+        }
+        RollStatus.check(status, this.currentFrameId);
+    }
+
+    /**
+     * Replaces the points of an earlier roll without throwing when they are rejected. The rolls from the corrected one
+     * on are taken back and recorded again, so only the frames from the one holding the roll are scored again.
+     * <p>
+     * When the corrected points or any of the rolls after them don't fit anymore, e.g. because a later roll now
+     * blows up its frame or the game now ends before it, the score board is left unchanged.
+     * <p>
+     * Listeners receive the events of taking the rolls back and recording them again, one by one, even for a
+     * rejected correction, whose rolls are recorded again with their original points.
+     *
+     * @param index  index of the roll in the game, starting at 0
+     * @param points the corrected number of points
+     * @return {@link RollStatus#OK} when the roll is corrected, otherwise the status of the first roll that didn't fit
+     */
+    public int tryCorrectRoll(final int index, final int points) {
+        Preconditions.checkArgument(index >= 0 && index < this.numRolls, "Valid roll index is between 0 and %s.",
+                this.numRolls - 1);
+
+        final int numRolls = this.numRolls;
+        final int originalPoints = (this.journal[index] >>> POINTS_SHIFT) & NIBBLE_MASK;
+
+        // the journal entries after the corrected roll are only overwritten once they are recorded again, so they
+        // still hold the points to replay
+        undoTo(index);
+        final int status = replay(index, numRolls, points);
+        if (status != RollStatus.OK) {
+            undoTo(index);
+            replay(index, numRolls, originalPoints);
+        }
+        return status;
+    }
+
+    /**
+     * @return number of rolls recorded in the game
+     */
+    public int getNumRolls() {
+        return this.numRolls;
     }
 
     /**
@@ -64,25 +325,177 @@ public class ScoreBoard {
      * @return latest score known in the game
      */
     public int scoreBoardTotal() {
-        return this.frames.stream()
-                .map(Frame::getFrameScore)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .mapToInt(Integer::intValue)
-                .sum();
+        resolveIfStale();
+        return this.total;
     }
 
-    public LinkedList<Frame> getFrames() {
-        return this.frames;
+    /**
+     * Returns the running total of the game up to and including the given frame, as written on a paper score sheet.
+     *
+     * @param frameId the frame, between 0 and 9
+     * @return the cumulative score, or {@link Frame#SCORE_NOT_AVAILABLE} if the frame cannot be scored yet
+     */
+    public int cumulativeScoreAt(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < NUMBER_OF_FRAMES, "Valid FrameID is between 0 and 9.");
+
+        resolveIfStale();
+        return this.cumulativeScores[frameId];
+    }
+
+    /**
+     * Returns the final score of the game if every ball from now on knocks down all the pins standing, i.e. a spare
+     * to finish the current frame and strikes after that. It is worked out from the current frame and the bonuses
+     * still pending on the two frames before it, without playing the rest of the game.
+     *
+     * @return the highest final score the game can still reach
+     */
+    public int maxPossibleScore() {
+        resolveIfStale();
+        if (isComplete()) {
+            return this.total;
+        }
+
+        final Frame current = this.frames[this.currentFrameId];
+        final int numBalls = current.getNumBalls();
+        final int nextBall = this.currentFrameId < LAST_FRAME_NUMBER && numBalls == 1
+                ? ALL_PINS - current.getFirstBallScoreValue()
+                : ALL_PINS;
+
+        // the last frame takes a full 10 on every ball it has left, whatever its first ball was
+        final int currentScore = this.currentFrameId < LAST_FRAME_NUMBER
+                ? (numBalls == 0 ? MAX_FRAME_SCORE : ALL_PINS + ALL_PINS)
+                : current.getScore() + ALL_PINS * (3 - numBalls);
+
+        return resolvedScore() + pendingScore(nextBall, ALL_PINS) + currentScore
+                + MAX_FRAME_SCORE * (LAST_FRAME_NUMBER - this.currentFrameId);
+    }
+
+    /**
+     * Returns the final score of the game if every ball from now on is a gutter ball.
+     *
+     * @return the lowest final score the game can still end with
+     */
+    public int minGuaranteedScore() {
+        resolveIfStale();
+        if (isComplete()) {
+            return this.total;
+        }
+
+        return resolvedScore() + pendingScore(0, 0) + this.frames[this.currentFrameId].getScore();
+    }
+
+    /**
+     * @return a read only view of the frames of the game
+     */
+    public List<Frame> getFrames() {
+        return this.frameList;
     }
 
     public int getCurrentFrameId() {
         return this.currentFrameId;
     }
 
+    /**
+     * Returns an immutable copy of the state of the game. The copy can be handed to other threads.
+     *
+     * @return the current state of the score board
+     */
+    public ScoreBoardSnapshot snapshot() {
+        resolveIfStale();
+        final int[] frameStarts = new int[NUMBER_OF_FRAMES + 1];
+        int numRolls = 0;
+        for (int i = 0; i < NUMBER_OF_FRAMES; i++) {
+            frameStarts[i] = numRolls;
+            numRolls += this.frames[i].getNumBalls();
+        }
+        frameStarts[NUMBER_OF_FRAMES] = numRolls;
+
+        final int[] rolls = new int[numRolls];
+        for (int i = 0; i < NUMBER_OF_FRAMES; i++) {
+            for (int ball = 0; ball < this.frames[i].getNumBalls(); ball++) {
+                rolls[frameStarts[i] + ball] = this.frames[i].getBallScoreValue(ball);
+            }
+        }
+
+        return new ScoreBoardSnapshot(rolls, frameStarts, this.cumulativeScores.clone(), this.total,
+                this.currentFrameId);
+    }
+
+    /**
+     * Every frame more than two frames before the current one has all the balls its bonus needs, so its score is final.
+     */
+    private int resolvedScore() {
+        return this.currentFrameId >= 3 ? this.cumulativeScores[this.currentFrameId - 3] : 0;
+    }
+
+    /**
+     * @return the final scores of the two frames before the current one, with their bonuses made of the balls played
+     * since and then of nextBall followed by laterBalls
+     */
+    private int pendingScore(final int nextBall, final int laterBalls) {
+        int score = 0;
+        for (int i = Math.max(0, this.currentFrameId - 2); i < this.currentFrameId; i++) {
+            final Frame frame = this.frames[i];
+            score += frame.getScore();
+            if (frame.isStrike()) {
+                score += nextBalls(i, 2, nextBall, laterBalls);
+            } else if (frame.isSpare()) {
+                score += nextBalls(i, 1, nextBall, laterBalls);
+            }
+        }
+        return score;
+    }
+
+    private int nextBalls(final int frameId, final int count, final int nextBall, final int laterBalls) {
+        int sum = 0;
+        int taken = 0;
+        for (int i = frameId + 1; i <= this.currentFrameId && taken < count; i++) {
+            final Frame frame = this.frames[i];
+            for (int ball = 0; ball < frame.getNumBalls() && taken < count; ball++) {
+                sum += frame.getBallScoreValue(ball);
+                taken++;
+            }
+        }
+        if (taken < count) {
+            sum += nextBall;
+            taken++;
+        }
+        return sum + laterBalls * (count - taken);
+    }
+
+    private void undoTo(final int numRolls) {
+        while (this.numRolls > numRolls) {
+            undoLastRoll();
+        }
+    }
+
+    private int replay(final int index, final int numRolls, final int points) {
+        int status = record(points);
+        for (int i = index + 1; i < numRolls && status == RollStatus.OK; i++) {
+            status = record((this.journal[i] >>> POINTS_SHIFT) & NIBBLE_MASK);
+        }
+        return status;
+    }
+
+    /**
+     * Packs what a roll into currentFrame changes, before the roll is recorded. Bonuses are at most 20 and frame states
+     * fit in 5 bits, see {@link FrameStates}.
+     */
+    private int journalEntry(final int points, final Frame currentFrame) {
+        final int frameId = this.currentFrameId;
+        final int bonus1 = frameId >= 1 ? this.frames[frameId - 1].getBonus() : Frame.SCORE_NOT_AVAILABLE;
+        final int bonus2 = frameId >= 2 ? this.frames[frameId - 2].getBonus() : Frame.SCORE_NOT_AVAILABLE;
+
+        return (points & NIBBLE_MASK) << POINTS_SHIFT
+                | frameId << FRAME_SHIFT
+                | currentFrame.getState() << STATE_SHIFT
+                | (bonus1 + 1) << BONUS1_SHIFT
+                | (bonus2 + 1) << BONUS2_SHIFT;
+    }
+
     private void tryUpdateLastFrameBonus(final Frame currentFrame) {
-        final Frame lastFrame = this.currentFrameId >= 1 ? this.frames.get(this.currentFrameId - 1) : null;
-        final Frame twoFramesPrior = (this.currentFrameId >= 2) ? this.frames.get(this.currentFrameId - 2) : null;
+        final Frame lastFrame = this.currentFrameId >= 1 ? this.frames[this.currentFrameId - 1] : null;
+        final Frame twoFramesPrior = (this.currentFrameId >= 2) ? this.frames[this.currentFrameId - 2] : null;
 
         if (lastFrame != null) {
             lastFrame.setBonus(currentFrame);
@@ -93,4 +506,92 @@ public class ScoreBoard {
         }
     }
 
+    private void fireRollRecorded(final int frameId, final int points, final int changedFrames,
+                                  final boolean finished) {
+        for (final ScoreBoardListener listener : this.listeners) {
+            listener.rollRecorded(this, frameId, points);
+            for (int i = Math.max(0, frameId - 2); i <= frameId; i++) {
+                if ((changedFrames & (1 << i)) != 0 && this.frameScores[i] != Frame.SCORE_NOT_AVAILABLE) {
+                    listener.frameScoreResolved(this, i, this.frameScores[i]);
+                }
+            }
+            if (finished) {
+                listener.frameFinished(this, frameId);
+            }
+            if (isComplete()) {
+                listener.gameComplete(this, this.total);
+            }
+        }
+    }
+
+    /**
+     * Only the current frame and the two frames before it can change their score on a roll, so only those entries
+     * of the running totals are refreshed.
+     *
+     * @return a bit set of the frames whose score changed
+     */
+    private int updateTotals() {
+        int changedFrames = 0;
+        for (int i = Math.max(0, this.currentFrameId - 2); i <= this.currentFrameId; i++) {
+            if (setFrameScore(i, this.frames[i].getFrameScoreValue())) {
+                changedFrames |= 1 << i;
+            }
+        }
+        return changedFrames;
+    }
+
+    /**
+     * A roll into a frame can only change the scores of that frame and the two frames before it.
+     */
+    private void invalidateFrom(final int frameId) {
+        this.staleFrom = Math.min(this.staleFrom, Math.max(0, frameId - 2));
+    }
+
+    private void resolveIfStale() {
+        if (this.staleFrom < NUMBER_OF_FRAMES) {
+            resolveScores();
+        }
+    }
+
+    /**
+     * Scores the frames of a lazy board from the first stale one on, from the rolls. The frames after the current one
+     * are cleared too, as the rolls taken back since the last read may have left scores there.
+     *
+     * @return a bit set of the frames whose score changed
+     */
+    private int resolveScores() {
+        int changedFrames = 0;
+        for (int i = this.staleFrom; i < NUMBER_OF_FRAMES; i++) {
+            final int frameScore = this.frames[i].getNumBalls() == 0
+                    ? Frame.SCORE_NOT_AVAILABLE
+                    : GameScorer.scoreFrame(this.rolls, this.frameStarts[i], this.numRolls, i);
+            if (setFrameScore(i, frameScore)) {
+                changedFrames |= 1 << i;
+            }
+        }
+        this.staleFrom = NUMBER_OF_FRAMES;
+        return changedFrames;
+    }
+
+    /**
+     * Stores the score of a frame, adjusting the total, and refreshes its running total from the one before it.
+     *
+     * @return true if the score of the frame changed
+     */
+    private boolean setFrameScore(final int frameId, final int frameScore) {
+        final int previousScore = this.frameScores[frameId];
+        final boolean changed = frameScore != previousScore;
+        if (changed) {
+            this.total += (frameScore == Frame.SCORE_NOT_AVAILABLE ? 0 : frameScore)
+                    - (previousScore == Frame.SCORE_NOT_AVAILABLE ? 0 : previousScore);
+            this.frameScores[frameId] = frameScore;
+        }
+
+        final int previousCumulative = frameId == 0 ? 0 : this.cumulativeScores[frameId - 1];
+        this.cumulativeScores[frameId] = frameScore == Frame.SCORE_NOT_AVAILABLE
+                || previousCumulative == Frame.SCORE_NOT_AVAILABLE
+                ? Frame.SCORE_NOT_AVAILABLE
+                : previousCumulative + frameScore;
+        return changed;
+    }
 }
@@ -0,0 +1,44 @@
+package com.marchex.bowling;
+
+/**
+ * Receives the changes of a {@link ScoreBoard}, see {@link ScoreBoard#addListener(ScoreBoardListener)}. The methods
+ * are called on the thread that records the points, once the score board is up to date with the roll, so they should
+ * return quickly. Events are passed as primitives so that firing them never allocates.
+ */
+public interface ScoreBoardListener {
+    /**
+     * A roll was recorded.
+     *
+     * @param frameId the frame the roll went to
+     * @param points  the points of the roll
+     */
+    default void rollRecorded(final ScoreBoard board, final int frameId, final int points) {
+    }
+
+    /**
+     * All the balls of a frame have been played.
+     */
+    default void frameFinished(final ScoreBoard board, final int frameId) {
+    }
+
+    /**
+     * The score of a frame became known or changed, e.g. when the bonus of a strike or spare landed.
+     */
+    default void frameScoreResolved(final ScoreBoard board, final int frameId, final int frameScore) {
+    }
+
+    /**
+     * The last frame has finished.
+     */
+    default void gameComplete(final ScoreBoard board, final int total) {
+    }
+
+    /**
+     * A roll was taken back, see {@link ScoreBoard#undoLastRoll()}. The frame scores from frameId - 2 on may no longer
+     * be known.
+     *
+     * @param frameId the frame the roll was taken from
+     */
+    default void rollUndone(final ScoreBoard board, final int frameId) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A bounded pool of score boards, so that lanes starting new games reuse the boards of finished games instead of
+ * building new ones, for use from several threads.
+ * <p>
+ * Every thread keeps a few released boards to itself, so a thread that releases and acquires boards never contends
+ * with other threads. Boards that don't fit in the thread's cache go to a shared queue, and boards that don't fit in
+ * the shared queue are left to the garbage collector.
+ */
+public class ScoreBoardPool {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int DEFAULT_THREAD_CACHE_SIZE = 4;
+
+    private final ArrayBlockingQueue<ScoreBoard> shared;
+    private final int threadCacheSize;
+    private final ThreadLocal<ThreadCache> threadCaches;
+
+    public ScoreBoardPool() {
+        this(DEFAULT_CAPACITY, DEFAULT_THREAD_CACHE_SIZE);
+    }
+
+    /**
+     * @param capacity        maximum number of boards kept in the shared queue
+     * @param threadCacheSize maximum number of boards kept by each thread, 0 to only use the shared queue
+     */
+    public ScoreBoardPool(final int capacity, final int threadCacheSize) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+        Preconditions.checkArgument(threadCacheSize >= 0, "threadCacheSize can't be negative");
+
+        this.shared = new ArrayBlockingQueue<>(capacity);
+        this.threadCacheSize = threadCacheSize;
+        this.threadCaches = ThreadLocal.withInitial(() -> new ThreadCache(this.threadCacheSize));
+    }
+
+    /**
+     * @return an empty score board, either a released one or a new one when the pool is empty
+     */
+    public ScoreBoard acquire() {
+        final ScoreBoard cached = this.threadCaches.get().pop();
+        if (cached != null) {
+            return cached;
+        }
+
+        final ScoreBoard pooled = this.shared.poll();
+        return pooled != null ? pooled : new ScoreBoard();
+    }
+
+    /**
+     * Resets a score board, removes its listeners and hands it back to the pool. The board must not be used after it
+     * is released.
+     *
+     * @param board a board that is no longer used
+     */
+    public void release(final ScoreBoard board) {
+        Preconditions.checkNotNull(board, "board");
+
+        board.reset();
+        board.removeAllListeners();
+        if (!this.threadCaches.get().push(board)) {
+            this.shared.offer(board);
+        }
+    }
+
+    /**
+     * @return number of boards in the shared queue, not counting the ones cached by threads
+     */
+    public int sharedSize() {
+        return this.shared.size();
+    }
+
+    private static final class ThreadCache {
+        private final ScoreBoard[] boards;
+        private int size;
+
+        ThreadCache(final int capacity) {
+            this.boards = new ScoreBoard[capacity];
+        }
+
+        ScoreBoard pop() {
+            if (this.size == 0) {
+                return null;
+            }
+            final ScoreBoard board = this.boards[--this.size];
+            this.boards[this.size] = null;
+            return board;
+        }
+
+        boolean push(final ScoreBoard board) {
+            if (this.size == this.boards.length) {
+                return false;
+            }
+            this.boards[this.size++] = board;
+            return true;
+        }
+    }
+}
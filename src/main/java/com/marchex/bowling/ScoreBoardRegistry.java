@@ -0,0 +1,141 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import com.marchex.bowling.metrics.ScoringMetrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class holds the score boards of many simultaneous games, keyed by game id, for use from several threads.
+ * <p>
+ * Every game has its own lock, so rolls recorded for different games never wait on each other. The state of a game is
+ * published as a {@link ScoreBoardSnapshot} through a volatile field after every roll, so reading it never blocks and
+ * always returns the state after a whole roll.
+ */
+public class ScoreBoardRegistry {
+    private final ConcurrentHashMap<String, Game> games;
+    private final ScoringMetrics metrics;
+
+    public ScoreBoardRegistry() {
+        this(null);
+    }
+
+    /**
+     * @param metrics the metrics to count the rolls of all games in, or null to not count them
+     */
+    public ScoreBoardRegistry(final ScoringMetrics metrics) {
+        this.games = new ConcurrentHashMap<>();
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts a new game with an empty score board, replacing the game that had the same id.
+     *
+     * @param gameId id of the game, e.g. the lane
+     */
+    public void startGame(final String gameId) {
+        Preconditions.checkNotNull(gameId, "gameId");
+
+        this.games.put(gameId, new Game(this.metrics));
+    }
+
+    /**
+     * Removes a game from the registry.
+     *
+     * @return true if the game was registered
+     */
+    public boolean removeGame(final String gameId) {
+        return this.games.remove(gameId) != null;
+    }
+
+    /**
+     * Record the next ball points of a game. The game is started if it is not registered yet.
+     *
+     * @param gameId id of the game
+     * @param points number of points to add
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public void recordPoints(final String gameId, final int points) throws InvalidScoreException, FrameIsFullException {
+        Preconditions.checkNotNull(gameId, "gameId");
+
+        final Game game = this.games.computeIfAbsent(gameId, id -> new Game(this.metrics));
+        synchronized (game) {
+            game.board.recordPoints(points);
+            game.snapshot = game.board.snapshot();
+        }
+    }
+
+    /**
+     * Same as {@link #recordPoints(String, int)}, without throwing when the points are rejected. The snapshot of the
+     * game is only published again when the points are recorded.
+     *
+     * @return a {@link RollStatus} code, see {@link ScoreBoard#tryRecordPoints(int)}
+     */
+    public int tryRecordPoints(final String gameId, final int points) {
+        Preconditions.checkNotNull(gameId, "gameId");
+
+        final Game game = this.games.computeIfAbsent(gameId, id -> new Game(this.metrics));
+        synchronized (game) {
+            final int status = game.board.tryRecordPoints(points);
+            if (status == RollStatus.OK) {
+                game.snapshot = game.board.snapshot();
+            }
+            return status;
+        }
+    }
+
+    /**
+     * @return the latest total of the game, see {@link ScoreBoard#scoreBoardTotal()}
+     */
+    public int scoreBoardTotal(final String gameId) {
+        return getGame(gameId).snapshot.scoreBoardTotal();
+    }
+
+    public boolean isComplete(final String gameId) {
+        return getGame(gameId).snapshot.isComplete();
+    }
+
+    /**
+     * @return the state of the game after its latest roll
+     */
+    public ScoreBoardSnapshot getSnapshot(final String gameId) {
+        return getGame(gameId).snapshot;
+    }
+
+    public boolean contains(final String gameId) {
+        return this.games.containsKey(gameId);
+    }
+
+    /**
+     * @return a live view of the registered game ids
+     */
+    public Set<String> getGameIds() {
+        return this.games.keySet();
+    }
+
+    public int size() {
+        return this.games.size();
+    }
+
+    private Game getGame(final String gameId) {
+        final Game game = this.games.get(gameId);
+        Preconditions.checkArgument(game != null, "Unknown game %s", gameId);
+        return game;
+    }
+
+    private static final class Game {
+        // only used while holding the lock of the game
+        private final ScoreBoard board;
+
+        private volatile ScoreBoardSnapshot snapshot;
+
+        Game(final ScoringMetrics metrics) {
+            this.board = new ScoreBoard(metrics);
+            this.snapshot = this.board.snapshot();
+        }
+    }
+}
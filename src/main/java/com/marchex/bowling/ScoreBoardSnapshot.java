@@ -0,0 +1,89 @@
+package com.marchex.bowling;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable copy of the state of a {@link ScoreBoard} after a roll. Snapshots are safe to share between threads.
+ */
+public final class ScoreBoardSnapshot {
+    private static final int NUMBER_OF_FRAMES = 10;
+
+    private final int[] rolls;
+    private final int[] frameStarts;
+    private final int[] cumulativeScores;
+    private final int total;
+    private final int currentFrameId;
+
+    ScoreBoardSnapshot(final int[] rolls, final int[] frameStarts, final int[] cumulativeScores, final int total,
+                       final int currentFrameId) {
+        this.rolls = rolls;
+        this.frameStarts = frameStarts;
+        this.cumulativeScores = cumulativeScores;
+        this.total = total;
+        this.currentFrameId = currentFrameId;
+    }
+
+    /**
+     * @return the same value as {@link ScoreBoard#scoreBoardTotal()} at the time of the snapshot
+     */
+    public int scoreBoardTotal() {
+        return this.total;
+    }
+
+    /**
+     * @return the same value as {@link ScoreBoard#cumulativeScoreAt(int)} at the time of the snapshot
+     */
+    public int cumulativeScoreAt(final int frameId) {
+        checkFrameId(frameId);
+
+        return this.cumulativeScores[frameId];
+    }
+
+    public int getCurrentFrameId() {
+        return this.currentFrameId;
+    }
+
+    public boolean isComplete() {
+        return this.currentFrameId == NUMBER_OF_FRAMES;
+    }
+
+    /**
+     * @return number of rolls recorded in the game
+     */
+    public int getNumRolls() {
+        return this.rolls.length;
+    }
+
+    /**
+     * @param index index of the roll in the game, starting at 0
+     * @return the points of the roll
+     */
+    public int getRoll(final int index) {
+        Preconditions.checkElementIndex(index, this.rolls.length, "roll");
+
+        return this.rolls[index];
+    }
+
+    /**
+     * @return number of balls played in the frame
+     */
+    public int getNumBalls(final int frameId) {
+        checkFrameId(frameId);
+
+        return this.frameStarts[frameId + 1] - this.frameStarts[frameId];
+    }
+
+    /**
+     * @param ball index of the ball within the frame, starting at 0
+     * @return the points of the ball, or {@link Frame#SCORE_NOT_AVAILABLE} if it hasn't been played
+     */
+    public int getBallScore(final int frameId, final int ball) {
+        Preconditions.checkArgument(ball >= 0, "Ball index cannot be negative");
+
+        return ball < getNumBalls(frameId) ? this.rolls[this.frameStarts[frameId] + ball] : Frame.SCORE_NOT_AVAILABLE;
+    }
+
+    private static void checkFrameId(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < NUMBER_OF_FRAMES, "Valid FrameID is between 0 and 9.");
+    }
+}
@@ -0,0 +1,18 @@
+package com.marchex.bowling;
+
+/**
+ * How a {@link ScoreBoard} keeps its frame scores and totals up to date.
+ */
+public enum ScoringMode {
+    /**
+     * Every roll hands out the bonuses of the frames before it and refreshes the running totals, so reads are plain
+     * field reads.
+     */
+    EAGER,
+
+    /**
+     * Rolls are only appended. Frame scores and totals are worked out from the rolls on the first read after a roll
+     * and cached until a later roll changes them, which suits games that are written often and read rarely.
+     */
+    LAZY
+}
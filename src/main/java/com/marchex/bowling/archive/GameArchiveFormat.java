@@ -0,0 +1,25 @@
+package com.marchex.bowling.archive;
+
+/**
+ * Layout of a game archive file. All numbers are big endian.
+ * <pre>
+ * header  magic (int), version (short), reserved (short), game count (int), index offset (int)
+ * games   per game: number of rolls (byte), then the rolls as 4 bit nibbles, high nibble first, padded to a byte
+ * index   per game: file offset of the game (int)
+ * </pre>
+ * Offsets are ints, so an archive holds up to 2GB, which is also the most a single mapping can cover.
+ */
+final class GameArchiveFormat {
+    static final int MAGIC = 0x42574C41;
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+    static final int GAME_COUNT_OFFSET = 8;
+    static final int INDEX_OFFSET_OFFSET = 12;
+
+    static final int MAX_ROLLS_PER_GAME = 21;
+    static final int MAX_GAME_RECORD_SIZE = 1 + (MAX_ROLLS_PER_GAME + 1) / 2;
+
+    private GameArchiveFormat() {
+    }
+}
@@ -0,0 +1,140 @@
+package com.marchex.bowling.archive;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.GameScorer;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Reads a game archive written by {@link GameArchiveWriter} through a memory mapping of the file. Games are decoded
+ * straight from the mapping into a small caller supplied buffer, the archive is never copied onto the heap.
+ * <p>
+ * The reader only uses absolute reads, so it can be shared by several threads.
+ */
+public class GameArchiveReader implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer mapping;
+    private final int gameCount;
+    private final int indexOffset;
+
+    public GameArchiveReader(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final long size = this.channel.size();
+            if (size < GameArchiveFormat.HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a game archive: " + path);
+            }
+
+            this.mapping = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (this.mapping.getInt(0) != GameArchiveFormat.MAGIC) {
+                throw new IOException("Not a game archive: " + path);
+            }
+            if (this.mapping.getShort(4) != GameArchiveFormat.VERSION) {
+                throw new IOException("Unsupported game archive version " + this.mapping.getShort(4));
+            }
+
+            this.gameCount = this.mapping.getInt(GameArchiveFormat.GAME_COUNT_OFFSET);
+            this.indexOffset = this.mapping.getInt(GameArchiveFormat.INDEX_OFFSET_OFFSET);
+            if (this.gameCount < 0 || this.indexOffset < GameArchiveFormat.HEADER_SIZE
+                    || this.indexOffset + 4L * this.gameCount > size) {
+                throw new IOException("Corrupt game archive header: " + path);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    public int getGameCount() {
+        return this.gameCount;
+    }
+
+    public int getNumRolls(final int game) {
+        return this.mapping.get(gameOffset(game)) & 0xFF;
+    }
+
+    /**
+     * Decodes the rolls of a game.
+     *
+     * @param game  index of the game in the archive
+     * @param rolls receives the rolls, needs room for 21 rolls
+     * @return the number of rolls of the game
+     */
+    public int readGame(final int game, final int[] rolls) {
+        final int offset = gameOffset(game);
+        final int numRolls = this.mapping.get(offset) & 0xFF;
+        Preconditions.checkArgument(rolls.length >= numRolls, "rolls needs room for %s rolls", numRolls);
+
+        for (int i = 0; i < numRolls; i += 2) {
+            final int packed = this.mapping.get(offset + 1 + (i >> 1));
+            rolls[i] = (packed >> 4) & 0xF;
+            if (i + 1 < numRolls) {
+                rolls[i + 1] = packed & 0xF;
+            }
+        }
+        return numRolls;
+    }
+
+    /**
+     * Scores a game, see {@link GameScorer#scoreGame(int[], int, int, int[])}.
+     *
+     * @param game             index of the game in the archive
+     * @param rolls            buffer for the decoded rolls, needs room for 21 rolls
+     * @param cumulativeScores receives the running total of the 10 frames, may be null
+     * @return the total of the game
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public int scoreGame(final int game, final int[] rolls, final int[] cumulativeScores)
+            throws InvalidScoreException, FrameIsFullException {
+        return GameScorer.scoreGame(rolls, 0, readGame(game, rolls), cumulativeScores);
+    }
+
+    /**
+     * @return the rolls of every game, in archive order
+     */
+    public Stream<int[]> games() {
+        return IntStream.range(0, this.gameCount).mapToObj(game -> {
+            final int[] rolls = new int[getNumRolls(game)];
+            readGame(game, rolls);
+            return rolls;
+        });
+    }
+
+    /**
+     * @return the total of every game, in archive order. The stream can be made parallel.
+     */
+    public IntStream totals() {
+        return IntStream.range(0, this.gameCount).map(game -> {
+            final int[] rolls = new int[GameArchiveFormat.MAX_ROLLS_PER_GAME];
+            try {
+                return scoreGame(game, rolls, null);
+            } catch (InvalidScoreException | FrameIsFullException e) {
+                throw new IllegalStateException("Game " + game + " of the archive is not valid", e);
+            }
+        });
+    }
+
+    /**
+     * Closes the file. The mapping itself is released by the garbage collector.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private int gameOffset(final int game) {
+        Preconditions.checkElementIndex(game, this.gameCount, "game");
+
+        return this.mapping.getInt(this.indexOffset + 4 * game);
+    }
+}
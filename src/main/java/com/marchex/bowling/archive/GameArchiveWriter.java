@@ -0,0 +1,152 @@
+package com.marchex.bowling.archive;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.GameScorer;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes games to a compact archive file, see {@link GameArchiveFormat}. The archive can be read once the writer is
+ * closed.
+ */
+public class GameArchiveWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int[] rolls;
+    private int[] gameOffsets;
+    private int gameCount;
+    private long bufferStart;
+    private boolean closed;
+
+    public GameArchiveWriter(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.rolls = new int[GameArchiveFormat.MAX_ROLLS_PER_GAME];
+        this.gameOffsets = new int[1024];
+        this.bufferStart = GameArchiveFormat.HEADER_SIZE;
+        this.channel.position(this.bufferStart);
+    }
+
+    /**
+     * Appends the rolls recorded on a score board.
+     */
+    public void write(final ScoreBoard board) throws IOException {
+        int numRolls = 0;
+        for (final Frame frame : board.getFrames()) {
+            for (int ball = 0; ball < frame.getNumBalls(); ball++) {
+                this.rolls[numRolls++] = frame.getBallScoreValue(ball);
+            }
+        }
+
+        writeRolls(this.rolls, 0, numRolls);
+    }
+
+    /**
+     * Appends a game given by its rolls. The rolls are checked with the rules of the score board first.
+     *
+     * @throws InvalidScoreException
+     * @throws FrameIsFullException
+     */
+    public void write(final int[] rolls, final int offset, final int length)
+            throws IOException, InvalidScoreException, FrameIsFullException {
+        Preconditions.checkArgument(length <= GameArchiveFormat.MAX_ROLLS_PER_GAME, "A game has at most 21 rolls");
+        GameScorer.scoreGame(rolls, offset, length);
+
+        writeRolls(rolls, offset, length);
+    }
+
+    public int getGameCount() {
+        return this.gameCount;
+    }
+
+    /**
+     * Writes the index and the header and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        try {
+            final long indexOffset = position();
+            checkOffset(indexOffset + 4L * this.gameCount);
+            for (int i = 0; i < this.gameCount; i++) {
+                ensureRoom(4);
+                this.buffer.putInt(this.gameOffsets[i]);
+            }
+            flush();
+
+            final ByteBuffer header = ByteBuffer.allocate(GameArchiveFormat.HEADER_SIZE);
+            header.putInt(GameArchiveFormat.MAGIC)
+                    .putShort(GameArchiveFormat.VERSION)
+                    .putShort((short) 0)
+                    .putInt(this.gameCount)
+                    .putInt((int) indexOffset);
+            header.flip();
+            while (header.hasRemaining()) {
+                this.channel.write(header, header.position());
+            }
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private void writeRolls(final int[] rolls, final int offset, final int length) throws IOException {
+        Preconditions.checkState(!this.closed, "The archive is closed");
+
+        ensureRoom(GameArchiveFormat.MAX_GAME_RECORD_SIZE);
+        final long gameOffset = position();
+        checkOffset(gameOffset + GameArchiveFormat.MAX_GAME_RECORD_SIZE);
+
+        if (this.gameCount == this.gameOffsets.length) {
+            this.gameOffsets = Arrays.copyOf(this.gameOffsets, this.gameOffsets.length * 2);
+        }
+        this.gameOffsets[this.gameCount++] = (int) gameOffset;
+
+        this.buffer.put((byte) length);
+        for (int i = 0; i < length; i += 2) {
+            final int high = rolls[offset + i];
+            final int low = i + 1 < length ? rolls[offset + i + 1] : 0;
+            this.buffer.put((byte) (high << 4 | low));
+        }
+    }
+
+    private long position() {
+        return this.bufferStart + this.buffer.position();
+    }
+
+    private void ensureRoom(final int bytes) throws IOException {
+        if (this.buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.bufferStart += this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private static void checkOffset(final long offset) throws IOException {
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("A game archive cannot grow beyond 2GB");
+        }
+    }
+}
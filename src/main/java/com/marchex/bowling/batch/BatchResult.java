@@ -0,0 +1,127 @@
+package com.marchex.bowling.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated results of scoring a batch of games with {@link BatchScorer}.
+ */
+public final class BatchResult {
+    static final int MAX_SCORE = 300;
+
+    private long gameCount;
+    private long scoredGameCount;
+    private long totalScore;
+    private int maxScore;
+    private final long[] histogram;
+    private final List<Failure> failures;
+
+    BatchResult() {
+        this.histogram = new long[MAX_SCORE + 1];
+        this.failures = new ArrayList<>();
+    }
+
+    void addScore(final int score) {
+        this.gameCount++;
+        this.scoredGameCount++;
+        this.totalScore += score;
+        this.maxScore = Math.max(this.maxScore, score);
+        this.histogram[score]++;
+    }
+
+    void addFailure(final int game, final Exception cause) {
+        this.gameCount++;
+        this.failures.add(new Failure(game, cause.getMessage()));
+    }
+
+    /**
+     * Adds the results of a batch of games that comes after the games of this one.
+     */
+    BatchResult merge(final BatchResult other) {
+        this.gameCount += other.gameCount;
+        this.scoredGameCount += other.scoredGameCount;
+        this.totalScore += other.totalScore;
+        this.maxScore = Math.max(this.maxScore, other.maxScore);
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            this.histogram[score] += other.histogram[score];
+        }
+        this.failures.addAll(other.failures);
+        return this;
+    }
+
+    /**
+     * @return number of games in the batch, including the ones that failed validation
+     */
+    public long getGameCount() {
+        return this.gameCount;
+    }
+
+    /**
+     * @return number of games that passed validation and were scored
+     */
+    public long getScoredGameCount() {
+        return this.scoredGameCount;
+    }
+
+    /**
+     * @return sum of the totals of the scored games
+     */
+    public long getTotalScore() {
+        return this.totalScore;
+    }
+
+    public int getMaxScore() {
+        return this.maxScore;
+    }
+
+    /**
+     * @return average total of the scored games, 0 when no game was scored
+     */
+    public double getAverageScore() {
+        return this.scoredGameCount == 0 ? 0 : (double) this.totalScore / this.scoredGameCount;
+    }
+
+    /**
+     * @return number of scored games whose total is the given score
+     */
+    public long getScoreCount(final int score) {
+        return score < 0 || score > MAX_SCORE ? 0 : this.histogram[score];
+    }
+
+    /**
+     * @return the games that failed validation, in input order
+     */
+    public List<Failure> getFailures() {
+        return Collections.unmodifiableList(this.failures);
+    }
+
+    /**
+     * A game rejected by the rules of the score board.
+     */
+    public static final class Failure {
+        private final int game;
+        private final String message;
+
+        Failure(final int game, final String message) {
+            this.game = game;
+            this.message = message;
+        }
+
+        /**
+         * @return index of the game in the input
+         */
+        public int getGame() {
+            return this.game;
+        }
+
+        public String getMessage() {
+            return this.message;
+        }
+
+        @Override
+        public String toString() {
+            return "game " + this.game + ": " + this.message;
+        }
+    }
+}
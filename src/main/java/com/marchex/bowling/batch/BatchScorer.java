@@ -0,0 +1,90 @@
+package com.marchex.bowling.batch;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.GameScorer;
+import com.marchex.bowling.exceptions.FrameIsFullException;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores large batches of games in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The games are split into chunks. Every chunk is scored with {@link GameScorer} into its own {@link BatchResult},
+ * and the results are merged when the tasks join, so the workers share no mutable state.
+ */
+public class BatchScorer {
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+    private static final int MAX_ROLLS_PER_GAME = 21;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Scores on the common pool.
+     */
+    public BatchScorer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param pool      the pool running the scoring tasks
+     * @param chunkSize number of games scored by one task
+     */
+    public BatchScorer(final ForkJoinPool pool, final int chunkSize) {
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+
+        this.pool = Preconditions.checkNotNull(pool, "pool");
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchResult score(final int[][] games) {
+        return score(GameSource.of(games));
+    }
+
+    public BatchResult score(final GameSource source) {
+        return this.pool.invoke(new ScoreTask(source, 0, source.size()));
+    }
+
+    private final class ScoreTask extends RecursiveTask<BatchResult> {
+        private final GameSource source;
+        private final int from;
+        private final int to;
+
+        private ScoreTask(final GameSource source, final int from, final int to) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            if (this.to - this.from <= BatchScorer.this.chunkSize) {
+                return scoreChunk();
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            final ScoreTask second = new ScoreTask(this.source, middle, this.to);
+            second.fork();
+            final BatchResult first = new ScoreTask(this.source, this.from, middle).compute();
+            return first.merge(second.join());
+        }
+
+        private BatchResult scoreChunk() {
+            final BatchResult result = new BatchResult();
+            final int[] rolls = new int[MAX_ROLLS_PER_GAME];
+
+            for (int game = this.from; game < this.to; game++) {
+                try {
+                    final int numRolls = this.source.readGame(game, rolls);
+                    result.addScore(GameScorer.scoreGame(rolls, 0, numRolls));
+                } catch (InvalidScoreException | FrameIsFullException | IllegalArgumentException
+                        | IndexOutOfBoundsException e) {
+                    result.addFailure(game, e);
+                }
+            }
+            return result;
+        }
+    }
+}
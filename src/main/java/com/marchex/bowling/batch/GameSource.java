@@ -0,0 +1,61 @@
+package com.marchex.bowling.batch;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.archive.GameArchiveReader;
+
+/**
+ * Random access to the rolls of a set of games, safe to read from several threads at once.
+ */
+public interface GameSource {
+
+    /**
+     * @return number of games
+     */
+    int size();
+
+    /**
+     * Copies the rolls of a game.
+     *
+     * @param game  index of the game
+     * @param rolls receives the rolls, needs room for 21 rolls
+     * @return the number of rolls of the game
+     */
+    int readGame(int game, int[] rolls);
+
+    /**
+     * @param games the rolls of every game
+     */
+    static GameSource of(final int[][] games) {
+        Preconditions.checkNotNull(games, "games");
+
+        return new GameSource() {
+            @Override
+            public int size() {
+                return games.length;
+            }
+
+            @Override
+            public int readGame(final int game, final int[] rolls) {
+                final int[] gameRolls = games[game];
+                System.arraycopy(gameRolls, 0, rolls, 0, gameRolls.length);
+                return gameRolls.length;
+            }
+        };
+    }
+
+    static GameSource of(final GameArchiveReader reader) {
+        Preconditions.checkNotNull(reader, "reader");
+
+        return new GameSource() {
+            @Override
+            public int size() {
+                return reader.getGameCount();
+            }
+
+            @Override
+            public int readGame(final int game, final int[] rolls) {
+                return reader.readGame(game, rolls);
+            }
+        };
+    }
+}
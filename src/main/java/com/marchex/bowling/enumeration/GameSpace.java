@@ -0,0 +1,275 @@
+package com.marchex.bowling.enumeration;
+
+import com.google.common.base.Preconditions;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Every complete game a {@link com.marchex.bowling.ScoreBoard} accepts, counted by final score without listing them.
+ * <p>
+ * Every ball counts its pins once, plus once more for every strike or spare still waiting for it as a bonus, so the
+ * points still to come only depend on the frame, the ball of the frame, the pins of the first ball and how many
+ * bonuses are waiting for the next two balls. For every one of these few hundred states the space holds the number of
+ * ways to finish the game with every number of points to come, counted from the states one ball later. The states of a
+ * frame only depend on the states of the frame after it, so the frames are counted last to first and the states of a
+ * frame are counted in parallel.
+ * <p>
+ * The last frame follows the rules of {@link com.marchex.bowling.Frame}: every ball takes 0 to 10 pins and the third
+ * ball is played when the first two add up to at least 10.
+ * <p>
+ * A game space is immutable and can be shared between threads.
+ */
+public final class GameSpace {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int LAST_FRAME_NUMBER = NUMBER_OF_FRAMES - 1;
+    private static final int ALL_PINS = 10;
+    private static final int MAX_SCORE = 300;
+    private static final int MAX_ROLLS_PER_GAME = 21;
+    private static final int MAX_WAITING_NEXT = 2;
+    private static final int MAX_WAITING_LATER = 1;
+    // states no game can reach, like bonuses waiting at the first frame, may go past 300
+    private static final int MAX_BONUS_WAITING = (MAX_WAITING_NEXT + MAX_WAITING_LATER) * ALL_PINS;
+
+    // states: the first ball of a frame, the second ball of a frame, the third ball of the last frame, game over
+    private static final int FIRST_BALL_STATES_PER_FRAME = (MAX_WAITING_NEXT + 1) * (MAX_WAITING_LATER + 1);
+    private static final int SECOND_BALL_STATES_PER_FRAME = (ALL_PINS + 1) * (MAX_WAITING_LATER + 1);
+    private static final int SECOND_BALL = NUMBER_OF_FRAMES * FIRST_BALL_STATES_PER_FRAME;
+    private static final int THIRD_BALL = SECOND_BALL + NUMBER_OF_FRAMES * SECOND_BALL_STATES_PER_FRAME;
+    private static final int GAME_OVER = THIRD_BALL + 1;
+    private static final int NUM_STATES = GAME_OVER + 1;
+
+    private static final int START = firstBall(0, 0, 0);
+
+    // the number of ways to finish the game from a state, indexed by the points to come
+    private final long[][] counts;
+
+    /**
+     * Counts on the common pool.
+     */
+    public GameSpace() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool the pool counting the states of a frame
+     */
+    public GameSpace(final ForkJoinPool pool) {
+        Preconditions.checkNotNull(pool, "pool");
+
+        this.counts = new long[NUM_STATES][];
+        this.counts[GAME_OVER] = new long[]{1};
+        this.counts[THIRD_BALL] = countState(THIRD_BALL);
+
+        for (int frameId = LAST_FRAME_NUMBER; frameId >= 0; frameId--) {
+            final int secondBalls = secondBall(frameId, 0, 0);
+            countStates(pool, secondBalls, secondBalls + SECOND_BALL_STATES_PER_FRAME, frameId);
+            final int firstBalls = firstBall(frameId, 0, 0);
+            countStates(pool, firstBalls, firstBalls + FIRST_BALL_STATES_PER_FRAME, frameId);
+        }
+    }
+
+    /**
+     * @param score a final score
+     * @return the number of complete games ending with the score
+     */
+    public long count(final int score) {
+        final long[] start = this.counts[START];
+        return score < 0 || score >= start.length ? 0 : start[score];
+    }
+
+    /**
+     * @return the number of complete games, which does not fit in a long
+     */
+    public BigInteger totalCount() {
+        BigInteger total = BigInteger.ZERO;
+        for (final long count : this.counts[START]) {
+            total = total.add(BigInteger.valueOf(count));
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of complete games ending with every score from 0 to 300
+     */
+    public ScoreFrequencyIndex index() {
+        return new ScoreFrequencyIndex(Arrays.copyOf(this.counts[START], MAX_SCORE + 1));
+    }
+
+    /**
+     * Lists the complete games ending with a score, one at a time. Only branches that still lead to the score are
+     * followed, so every step of the stream takes at most a few dozen lookups however rare the score is.
+     *
+     * @param score a final score
+     * @return the rolls of every game ending with the score, in increasing order of the rolls
+     */
+    public Stream<int[]> games(final int score) {
+        final long count = count(score);
+        if (count == 0) {
+            return Stream.empty();
+        }
+
+        return StreamSupport.stream(Spliterators.spliterator(new GameIterator(score), count,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    private void countStates(final ForkJoinPool pool, final int from, final int to, final int frameId) {
+        pool.submit(() -> IntStream.range(from, to).parallel()
+                .filter(state -> isReachable(state, frameId))
+                .forEach(state -> this.counts[state] = countState(state)))
+                .join();
+    }
+
+    private long[] countState(final int state) {
+        final long[] counts = new long[MAX_SCORE + MAX_BONUS_WAITING + 1];
+        int length = 0;
+        for (int pins = 0; pins <= maxPins(state); pins++) {
+            final long[] after = this.counts[nextState(state, pins)];
+            final int points = points(state, pins);
+            for (int i = 0; i < after.length; i++) {
+                counts[points + i] = Math.addExact(counts[points + i], after[i]);
+            }
+            length = Math.max(length, points + after.length);
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    private long countAfter(final int state, final int pins, final int points) {
+        final long[] after = this.counts[nextState(state, pins)];
+        return points < 0 || points >= after.length ? 0 : after[points];
+    }
+
+    /**
+     * The second ball of a regular frame never follows a strike.
+     */
+    private static boolean isReachable(final int state, final int frameId) {
+        return state < SECOND_BALL || frameId == LAST_FRAME_NUMBER || firstPins(state) < ALL_PINS;
+    }
+
+    private static int maxPins(final int state) {
+        if (state >= SECOND_BALL && state < THIRD_BALL && frameOf(state) < LAST_FRAME_NUMBER) {
+            return ALL_PINS - firstPins(state);
+        }
+        return ALL_PINS;
+    }
+
+    private static int points(final int state, final int pins) {
+        return state == THIRD_BALL ? pins : pins * (1 + waitingNext(state));
+    }
+
+    private static int nextState(final int state, final int pins) {
+        if (state == THIRD_BALL) {
+            return GAME_OVER;
+        }
+
+        final int frameId = frameOf(state);
+        if (state < SECOND_BALL) {
+            final int later = state % (MAX_WAITING_LATER + 1);
+            return frameId < LAST_FRAME_NUMBER && pins == ALL_PINS
+                    ? firstBall(frameId + 1, later + 1, 1)
+                    : secondBall(frameId, pins, later);
+        }
+
+        final int firstPins = firstPins(state);
+        if (frameId == LAST_FRAME_NUMBER) {
+            return firstPins + pins >= ALL_PINS ? THIRD_BALL : GAME_OVER;
+        }
+        return firstBall(frameId + 1, firstPins + pins == ALL_PINS ? 1 : 0, 0);
+    }
+
+    private static int firstBall(final int frameId, final int next, final int later) {
+        return (frameId * (MAX_WAITING_NEXT + 1) + next) * (MAX_WAITING_LATER + 1) + later;
+    }
+
+    private static int secondBall(final int frameId, final int firstPins, final int next) {
+        return SECOND_BALL + (frameId * (ALL_PINS + 1) + firstPins) * (MAX_WAITING_LATER + 1) + next;
+    }
+
+    private static int frameOf(final int state) {
+        return state < SECOND_BALL
+                ? state / FIRST_BALL_STATES_PER_FRAME
+                : (state - SECOND_BALL) / SECOND_BALL_STATES_PER_FRAME;
+    }
+
+    private static int waitingNext(final int state) {
+        return state < SECOND_BALL
+                ? state % FIRST_BALL_STATES_PER_FRAME / (MAX_WAITING_LATER + 1)
+                : (state - SECOND_BALL) % (MAX_WAITING_LATER + 1);
+    }
+
+    private static int firstPins(final int state) {
+        return (state - SECOND_BALL) % SECOND_BALL_STATES_PER_FRAME / (MAX_WAITING_LATER + 1);
+    }
+
+    /**
+     * A depth first walk over the games ending with a score, keeping the state, points left and pins of every ball.
+     */
+    private final class GameIterator implements Iterator<int[]> {
+        private final int[] states = new int[MAX_ROLLS_PER_GAME + 1];
+        private final int[] pointsLeft = new int[MAX_ROLLS_PER_GAME + 1];
+        private final int[] rolls = new int[MAX_ROLLS_PER_GAME];
+        private int depth;
+        private int[] next;
+
+        GameIterator(final int score) {
+            this.states[0] = START;
+            this.pointsLeft[0] = score;
+            this.rolls[0] = -1;
+            this.next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public int[] next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            final int[] game = this.next;
+            this.next = advance();
+            return game;
+        }
+
+        /**
+         * @return the rolls of the next game, or null when there are no more games
+         */
+        private int[] advance() {
+            while (this.depth >= 0) {
+                final int state = this.states[this.depth];
+                final int pointsLeft = this.pointsLeft[this.depth];
+                int pins = this.rolls[this.depth] + 1;
+                while (pins <= maxPins(state) && countAfter(state, pins, pointsLeft - points(state, pins)) == 0) {
+                    pins++;
+                }
+
+                if (pins > maxPins(state)) {
+                    this.depth--;
+                    continue;
+                }
+
+                this.rolls[this.depth] = pins;
+                final int nextState = nextState(state, pins);
+                if (nextState == GAME_OVER) {
+                    return Arrays.copyOf(this.rolls, this.depth + 1);
+                }
+
+                this.depth++;
+                this.states[this.depth] = nextState;
+                this.pointsLeft[this.depth] = pointsLeft - points(state, pins);
+                this.rolls[this.depth] = -1;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.marchex.bowling.enumeration;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The number of complete games ending with every score from 0 to 300, see {@link GameSpace#index()}. An index can be
+ * written to a file and read back, so the counts don't need to be worked out again. All numbers are big endian.
+ * <pre>
+ * header  magic (int), version (short), reserved (short)
+ * counts  per score from 0 to 300: number of games (long)
+ * </pre>
+ */
+public final class ScoreFrequencyIndex {
+    private static final int MAGIC = 0x42534649;
+    private static final short VERSION = 1;
+
+    private static final int MAX_SCORE = 300;
+    private static final int HEADER_SIZE = 8;
+    private static final int FILE_SIZE = HEADER_SIZE + 8 * (MAX_SCORE + 1);
+
+    private final long[] counts;
+
+    ScoreFrequencyIndex(final long[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * @param score a final score
+     * @return the number of complete games ending with the score
+     */
+    public long count(final int score) {
+        return score < 0 || score > MAX_SCORE ? 0 : this.counts[score];
+    }
+
+    /**
+     * @return the number of complete games, which does not fit in a long
+     */
+    public BigInteger totalCount() {
+        BigInteger total = BigInteger.ZERO;
+        for (final long count : this.counts) {
+            total = total.add(BigInteger.valueOf(count));
+        }
+        return total;
+    }
+
+    /**
+     * Writes the index to a temporary file next to the path and moves it into place, so readers never see half an
+     * index.
+     */
+    public void write(final Path path) throws IOException {
+        Preconditions.checkNotNull(path, "path");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+        for (final long count : this.counts) {
+            buffer.putLong(count);
+        }
+
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporary, buffer.array());
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static ScoreFrequencyIndex read(final Path path) throws IOException {
+        Preconditions.checkNotNull(path, "path");
+
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() != FILE_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a score frequency index: " + path);
+        }
+        final short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported score frequency index version " + version);
+        }
+        buffer.getShort();
+
+        final long[] counts = new long[MAX_SCORE + 1];
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            counts[score] = buffer.getLong();
+        }
+        return new ScoreFrequencyIndex(counts);
+    }
+}
@@ -0,0 +1,93 @@
+package com.marchex.bowling.events;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.Frame;
+
+/**
+ * The events of one game since the previous change delivered by a {@link ScoreBoardEventDispatcher}, coalesced:
+ * rolls are counted, and only the latest score of every frame is kept.
+ */
+public final class ScoreBoardChange {
+    private static final int NUMBER_OF_FRAMES = 10;
+
+    private final String gameId;
+    private final int rollsRecorded;
+    private final int rollsUndone;
+    private final int finishedFrames;
+    private final int resolvedFrames;
+    private final int[] frameScores;
+    private final int total;
+    private final boolean complete;
+
+    ScoreBoardChange(final String gameId, final int rollsRecorded, final int rollsUndone, final int finishedFrames,
+                     final int resolvedFrames, final int[] frameScores, final int total, final boolean complete) {
+        this.gameId = gameId;
+        this.rollsRecorded = rollsRecorded;
+        this.rollsUndone = rollsUndone;
+        this.finishedFrames = finishedFrames;
+        this.resolvedFrames = resolvedFrames;
+        this.frameScores = frameScores;
+        this.total = total;
+        this.complete = complete;
+    }
+
+    public String getGameId() {
+        return this.gameId;
+    }
+
+    /**
+     * @return number of rolls recorded since the previous change
+     */
+    public int getRollsRecorded() {
+        return this.rollsRecorded;
+    }
+
+    /**
+     * @return number of rolls taken back since the previous change
+     */
+    public int getRollsUndone() {
+        return this.rollsUndone;
+    }
+
+    /**
+     * @return true if the frame finished since the previous change and no undo has reopened it since
+     */
+    public boolean isFrameFinished(final int frameId) {
+        return (this.finishedFrames & bit(frameId)) != 0;
+    }
+
+    /**
+     * @return true if the score of the frame became known or changed since the previous change, or the frame was
+     * touched by an undo, which may have taken its score back
+     */
+    public boolean isFrameScoreResolved(final int frameId) {
+        return (this.resolvedFrames & bit(frameId)) != 0;
+    }
+
+    /**
+     * @return the latest resolved score of the frame, or {@link Frame#SCORE_NOT_AVAILABLE} if it wasn't resolved since
+     * the previous change or an undo took it back
+     */
+    public int getFrameScore(final int frameId) {
+        return isFrameScoreResolved(frameId) ? this.frameScores[frameId] : Frame.SCORE_NOT_AVAILABLE;
+    }
+
+    /**
+     * @return the total of the game after the latest event
+     */
+    public int scoreBoardTotal() {
+        return this.total;
+    }
+
+    /**
+     * @return true if the game was complete after the latest event
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    private static int bit(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < NUMBER_OF_FRAMES, "Valid FrameID is between 0 and 9.");
+        return 1 << frameId;
+    }
+}
@@ -0,0 +1,212 @@
+package com.marchex.bowling.events;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardListener;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the events of many score boards to a slow consumer on a thread of its own, so that recording points never
+ * waits for the consumer.
+ * <p>
+ * The events of a game are coalesced into one pending {@link ScoreBoardChange} until the dispatcher thread picks the
+ * game up, and a game is queued at most once, so the queue never holds more entries than there are games however far
+ * the consumer falls behind. Every wake up of the dispatcher thread delivers the changes of all the queued games as
+ * one batch.
+ */
+public class ScoreBoardEventDispatcher implements Closeable {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Receives the changes of the games, on the dispatcher thread.
+     */
+    public interface BatchListener {
+        void gamesChanged(List<ScoreBoardChange> changes);
+    }
+
+    private static final GameEvents CLOSED = new GameEvents(null, null);
+
+    private final BatchListener listener;
+    private final LinkedBlockingQueue<GameEvents> queue;
+    private final Thread thread;
+    private final AtomicLong listenerFailures;
+
+    public ScoreBoardEventDispatcher(final BatchListener listener) {
+        this.listener = Preconditions.checkNotNull(listener, "listener");
+        this.queue = new LinkedBlockingQueue<>();
+        this.listenerFailures = new AtomicLong();
+        this.thread = new Thread(this::run, "score-board-events");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @param gameId id of the game, passed on in its changes
+     * @return a listener to register on the score board of the game
+     */
+    public ScoreBoardListener forGame(final String gameId) {
+        Preconditions.checkNotNull(gameId, "gameId");
+
+        return new GameEvents(gameId, this.queue);
+    }
+
+    /**
+     * @return number of batches the batch listener failed on with a runtime exception
+     */
+    public long getListenerFailures() {
+        return this.listenerFailures.get();
+    }
+
+    /**
+     * Delivers the changes queued so far and stops the dispatcher thread.
+     */
+    @Override
+    public void close() {
+        if (!this.thread.isAlive()) {
+            return;
+        }
+
+        this.queue.offer(CLOSED);
+        try {
+            this.thread.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        final List<GameEvents> games = new ArrayList<>();
+        final List<ScoreBoardChange> changes = new ArrayList<>();
+        boolean closed = false;
+
+        while (!closed) {
+            try {
+                games.add(this.queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            this.queue.drainTo(games);
+
+            for (final GameEvents game : games) {
+                if (game == CLOSED) {
+                    closed = true;
+                } else {
+                    changes.add(game.takeChange());
+                }
+            }
+            games.clear();
+
+            if (!changes.isEmpty()) {
+                try {
+                    this.listener.gamesChanged(changes);
+                } catch (RuntimeException e) {
+                    this.listenerFailures.incrementAndGet();
+                }
+                changes.clear();
+            }
+        }
+    }
+
+    /**
+     * The events of one game not delivered yet. The methods run on the thread recording the points of the game and
+     * only allocate when the game needs to be queued.
+     */
+    private static final class GameEvents implements ScoreBoardListener {
+        private final String gameId;
+        private final LinkedBlockingQueue<GameEvents> queue;
+        private final int[] frameScores;
+
+        // guarded by this
+        private boolean queued;
+        private int rollsRecorded;
+        private int rollsUndone;
+        private int finishedFrames;
+        private int resolvedFrames;
+        private int total;
+        private boolean complete;
+
+        GameEvents(final String gameId, final LinkedBlockingQueue<GameEvents> queue) {
+            this.gameId = gameId;
+            this.queue = queue;
+            this.frameScores = new int[NUMBER_OF_FRAMES];
+        }
+
+        @Override
+        public synchronized void rollRecorded(final ScoreBoard board, final int frameId, final int points) {
+            this.rollsRecorded++;
+            changed(board);
+        }
+
+        @Override
+        public synchronized void frameFinished(final ScoreBoard board, final int frameId) {
+            this.finishedFrames |= 1 << frameId;
+            changed(board);
+        }
+
+        @Override
+        public synchronized void frameScoreResolved(final ScoreBoard board, final int frameId, final int frameScore) {
+            this.resolvedFrames |= 1 << frameId;
+            this.frameScores[frameId] = frameScore;
+            changed(board);
+        }
+
+        @Override
+        public synchronized void gameComplete(final ScoreBoard board, final int total) {
+            changed(board);
+        }
+
+        /**
+         * The undone roll may take back the finish of its frame and the scores of that frame and the two before it, so
+         * those frames are reported again with the scores they have now, even when that is no score at all.
+         */
+        @Override
+        public synchronized void rollUndone(final ScoreBoard board, final int frameId) {
+            this.rollsUndone++;
+            this.finishedFrames &= (1 << frameId) - 1;
+            for (int i = Math.max(0, frameId - 2); i <= frameId; i++) {
+                this.resolvedFrames |= 1 << i;
+                this.frameScores[i] = frameScoreOf(board, i);
+            }
+            changed(board);
+        }
+
+        private static int frameScoreOf(final ScoreBoard board, final int frameId) {
+            final int cumulativeScore = board.cumulativeScoreAt(frameId);
+            if (cumulativeScore == Frame.SCORE_NOT_AVAILABLE || frameId == 0) {
+                return cumulativeScore;
+            }
+            return cumulativeScore - board.cumulativeScoreAt(frameId - 1);
+        }
+
+        private void changed(final ScoreBoard board) {
+            this.total = board.scoreBoardTotal();
+            this.complete = board.isComplete();
+            if (!this.queued) {
+                this.queued = true;
+                this.queue.offer(this);
+            }
+        }
+
+        synchronized ScoreBoardChange takeChange() {
+            final ScoreBoardChange change = new ScoreBoardChange(this.gameId, this.rollsRecorded, this.rollsUndone,
+                    this.finishedFrames, this.resolvedFrames, Arrays.copyOf(this.frameScores, NUMBER_OF_FRAMES),
+                    this.total, this.complete);
+
+            this.queued = false;
+            this.rollsRecorded = 0;
+            this.rollsUndone = 0;
+            this.finishedFrames = 0;
+            this.resolvedFrames = 0;
+            return change;
+        }
+    }
+}
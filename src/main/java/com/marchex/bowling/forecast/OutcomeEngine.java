@@ -0,0 +1,240 @@
+package com.marchex.bowling.forecast;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardSnapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Works out the distribution of the final score of a game in progress from the {@link PinFallModel} of its bowler.
+ * <p>
+ * Every ball counts its pins once, plus once more for every strike or spare still waiting for it as a bonus, so the
+ * points still to come only depend on the frame, the ball of the frame, the pins standing and how many bonuses are
+ * waiting for the next two balls. The engine works out the distribution of the points to come for every one of these
+ * few hundred states once, when it is built, each from the states one ball later. A forecast is then a walk over the
+ * rolls played so far and a copy of one precomputed distribution, with no simulation.
+ * <p>
+ * The engine is immutable and can be shared between threads.
+ */
+public final class OutcomeEngine {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int LAST_FRAME_NUMBER = NUMBER_OF_FRAMES - 1;
+    private static final int ALL_PINS = 10;
+    private static final int MAX_WAITING_NEXT = 2;
+    private static final int MAX_WAITING_LATER = 1;
+    // states no game can reach, like bonuses waiting at the first frame, may go past 300
+    private static final int MAX_BONUS_WAITING = (MAX_WAITING_NEXT + MAX_WAITING_LATER) * ALL_PINS;
+
+    private static final double[] GAME_OVER = {1};
+
+    private final PinFallModel model;
+
+    // the distribution of the points to come, indexed by the points
+    private final double[][] firstBall;
+    private final double[][] secondBall;
+    private final double[][] afterLastFrameStrike;
+    private final double[][] lastFrameThirdBall;
+
+    public OutcomeEngine(final PinFallModel model) {
+        this.model = Preconditions.checkNotNull(model, "model");
+        this.firstBall = new double[NUMBER_OF_FRAMES * (MAX_WAITING_NEXT + 1) * (MAX_WAITING_LATER + 1)][];
+        this.secondBall = new double[NUMBER_OF_FRAMES * (ALL_PINS + 1) * (MAX_WAITING_LATER + 1)][];
+        this.afterLastFrameStrike = new double[MAX_WAITING_LATER + 1][];
+        this.lastFrameThirdBall = new double[ALL_PINS + 1][];
+
+        for (int standing = 1; standing <= ALL_PINS; standing++) {
+            this.lastFrameThirdBall[standing] = lastFrameThirdBall(standing);
+        }
+        for (int next = 0; next <= MAX_WAITING_LATER; next++) {
+            this.afterLastFrameStrike[next] = afterLastFrameStrike(next);
+        }
+        for (int frameId = LAST_FRAME_NUMBER; frameId >= 0; frameId--) {
+            for (int next = 0; next <= MAX_WAITING_LATER; next++) {
+                for (int standing = 1; standing <= ALL_PINS; standing++) {
+                    this.secondBall[secondBallIndex(frameId, standing, next)] = secondBall(frameId, standing, next);
+                }
+            }
+            for (int next = 0; next <= MAX_WAITING_NEXT; next++) {
+                for (int later = 0; later <= MAX_WAITING_LATER; later++) {
+                    this.firstBall[firstBallIndex(frameId, next, later)] = firstBall(frameId, next, later);
+                }
+            }
+        }
+    }
+
+    public PinFallModel getModel() {
+        return this.model;
+    }
+
+    public ScoreDistribution finalScore(final ScoreBoard board) {
+        return finalScore(board.snapshot());
+    }
+
+    /**
+     * @param game the game so far
+     * @return the distribution of the final score of the game
+     */
+    public ScoreDistribution finalScore(final ScoreBoardSnapshot game) {
+        Preconditions.checkNotNull(game, "game");
+
+        if (game.isComplete()) {
+            return ScoreDistribution.of(game.scoreBoardTotal());
+        }
+
+        // the points of the balls played and the bonuses waiting for the next ball and the one after it
+        int points = 0;
+        int next = 0;
+        int later = 0;
+        final int currentFrameId = game.getCurrentFrameId();
+        for (int frameId = 0; frameId <= currentFrameId; frameId++) {
+            for (int ball = 0; ball < game.getNumBalls(frameId); ball++) {
+                final int pins = game.getBallScore(frameId, ball);
+                points += pins * (1 + next);
+                next = later;
+                later = 0;
+                if (frameId < LAST_FRAME_NUMBER && ball == 0 && pins == ALL_PINS) {
+                    next++;
+                    later++;
+                } else if (frameId < LAST_FRAME_NUMBER && ball == 1
+                        && game.getBallScore(frameId, 0) + pins == ALL_PINS) {
+                    next++;
+                }
+            }
+        }
+
+        final double[] toCome = pointsToCome(game, currentFrameId, next, later);
+        final double[] probabilities = new double[ScoreDistribution.MAX_SCORE + 1];
+        System.arraycopy(toCome, 0, probabilities, points, toCome.length);
+        return new ScoreDistribution(probabilities);
+    }
+
+    /**
+     * Forecasts several games at once, in parallel on the common pool.
+     *
+     * @param engines the engine of the bowler of every game
+     * @param games   the games so far
+     * @return the distribution of the final score of every game
+     */
+    public static ScoreDistribution[] finalScores(final List<OutcomeEngine> engines,
+                                                  final List<ScoreBoardSnapshot> games) {
+        Preconditions.checkArgument(engines.size() == games.size(), "Every game needs an engine");
+
+        final ScoreDistribution[] distributions = new ScoreDistribution[games.size()];
+        IntStream.range(0, games.size()).parallel()
+                .forEach(game -> distributions[game] = engines.get(game).finalScore(games.get(game)));
+        return distributions;
+    }
+
+    /**
+     * @param distributions the final score distributions of the games
+     * @return the probability that game i beats game j at [i][j], see
+     * {@link ScoreDistribution#winProbability(ScoreDistribution)}
+     */
+    public static double[][] winProbabilities(final ScoreDistribution[] distributions) {
+        final double[][] probabilities = new double[distributions.length][distributions.length];
+        for (int i = 0; i < distributions.length; i++) {
+            probabilities[i][i] = 0.5;
+            for (int j = i + 1; j < distributions.length; j++) {
+                probabilities[i][j] = distributions[i].winProbability(distributions[j]);
+                probabilities[j][i] = 1 - probabilities[i][j];
+            }
+        }
+        return probabilities;
+    }
+
+    private double[] pointsToCome(final ScoreBoardSnapshot game, final int frameId, final int next, final int later) {
+        final int numBalls = game.getNumBalls(frameId);
+        if (numBalls == 0) {
+            return this.firstBall[firstBallIndex(frameId, next, later)];
+        }
+
+        final int firstPins = game.getBallScore(frameId, 0);
+        if (numBalls == 1) {
+            return frameId == LAST_FRAME_NUMBER && firstPins == ALL_PINS
+                    ? this.afterLastFrameStrike[next]
+                    : this.secondBall[secondBallIndex(frameId, ALL_PINS - firstPins, next)];
+        }
+
+        // the third ball of the last frame, at a new rack unless the strike of the first ball was followed by less
+        final int secondPins = game.getBallScore(frameId, 1);
+        return this.lastFrameThirdBall[firstPins == ALL_PINS && secondPins < ALL_PINS
+                ? ALL_PINS - secondPins
+                : ALL_PINS];
+    }
+
+    private double[] firstBall(final int frameId, final int next, final int later) {
+        final double[] toCome = new double[ScoreDistribution.MAX_SCORE + MAX_BONUS_WAITING + 1];
+        int length = 0;
+        for (int pins = 0; pins <= ALL_PINS; pins++) {
+            final double[] after;
+            if (frameId == LAST_FRAME_NUMBER) {
+                after = pins == ALL_PINS
+                        ? this.afterLastFrameStrike[later]
+                        : this.secondBall[secondBallIndex(frameId, ALL_PINS - pins, later)];
+            } else {
+                after = pins == ALL_PINS
+                        ? this.firstBall[firstBallIndex(frameId + 1, later + 1, 1)]
+                        : this.secondBall[secondBallIndex(frameId, ALL_PINS - pins, later)];
+            }
+            length = add(toCome, after, pins * (1 + next), this.model.probability(ALL_PINS, pins), length);
+        }
+        return Arrays.copyOf(toCome, length);
+    }
+
+    private double[] secondBall(final int frameId, final int standing, final int next) {
+        final double[] toCome = new double[ScoreDistribution.MAX_SCORE + MAX_BONUS_WAITING + 1];
+        int length = 0;
+        for (int pins = 0; pins <= standing; pins++) {
+            final double[] after;
+            if (frameId == LAST_FRAME_NUMBER) {
+                after = pins == standing ? this.lastFrameThirdBall[ALL_PINS] : GAME_OVER;
+            } else {
+                after = this.firstBall[firstBallIndex(frameId + 1, pins == standing ? 1 : 0, 0)];
+            }
+            length = add(toCome, after, pins * (1 + next), this.model.probability(standing, pins), length);
+        }
+        return Arrays.copyOf(toCome, length);
+    }
+
+    private double[] afterLastFrameStrike(final int next) {
+        final double[] toCome = new double[ScoreDistribution.MAX_SCORE + MAX_BONUS_WAITING + 1];
+        int length = 0;
+        for (int pins = 0; pins <= ALL_PINS; pins++) {
+            length = add(toCome, this.lastFrameThirdBall[pins == ALL_PINS ? ALL_PINS : ALL_PINS - pins],
+                    pins * (1 + next), this.model.probability(ALL_PINS, pins), length);
+        }
+        return Arrays.copyOf(toCome, length);
+    }
+
+    private double[] lastFrameThirdBall(final int standing) {
+        final double[] toCome = new double[standing + 1];
+        for (int pins = 0; pins <= standing; pins++) {
+            toCome[pins] = this.model.probability(standing, pins);
+        }
+        return toCome;
+    }
+
+    /**
+     * Adds the distribution of the points after a ball, moved by the points of the ball.
+     *
+     * @return the length of the distribution of the points to come so far
+     */
+    private static int add(final double[] toCome, final double[] after, final int points, final double probability,
+                           final int length) {
+        for (int i = 0; i < after.length; i++) {
+            toCome[points + i] += probability * after[i];
+        }
+        return Math.max(length, points + after.length);
+    }
+
+    private static int firstBallIndex(final int frameId, final int next, final int later) {
+        return (frameId * (MAX_WAITING_NEXT + 1) + next) * (MAX_WAITING_LATER + 1) + later;
+    }
+
+    private static int secondBallIndex(final int frameId, final int standing, final int next) {
+        return (frameId * (ALL_PINS + 1) + standing) * (MAX_WAITING_LATER + 1) + next;
+    }
+}
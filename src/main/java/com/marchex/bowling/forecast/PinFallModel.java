@@ -0,0 +1,104 @@
+package com.marchex.bowling.forecast;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.batch.GameSource;
+
+import java.util.Arrays;
+
+/**
+ * How many pins a bowler knocks down, as the probability of every pin count for a ball rolled at a full rack and for
+ * a ball rolled at the pins left standing by the first ball of a frame. A model is fitted from the bowler's past
+ * games, with add-one smoothing so that every pin count keeps a small probability.
+ */
+public final class PinFallModel {
+    private static final int ALL_PINS = 10;
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int MAX_ROLLS_PER_GAME = 21;
+
+    // [standing][pins], standing ALL_PINS is a full rack
+    private final double[][] probabilities;
+
+    private PinFallModel(final double[][] probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * @return a model where every pin count that fits the standing pins is equally likely
+     */
+    public static PinFallModel uniform() {
+        return fromCounts(new long[ALL_PINS + 1][ALL_PINS + 1]);
+    }
+
+    /**
+     * Fits a model to the games of a bowler. Games that are not finished count up to their last roll, and rolls that
+     * knock down more pins than were standing are skipped.
+     */
+    public static PinFallModel fit(final GameSource games) {
+        Preconditions.checkNotNull(games, "games");
+
+        final long[][] counts = new long[ALL_PINS + 1][ALL_PINS + 1];
+        final int[] rolls = new int[MAX_ROLLS_PER_GAME];
+        for (int game = 0; game < games.size(); game++) {
+            count(rolls, games.readGame(game, rolls), counts);
+        }
+        return fromCounts(counts);
+    }
+
+    /**
+     * @param standing number of pins standing, 10 for a full rack
+     * @param pins     number of pins knocked down
+     * @return the probability of knocking down the pins
+     */
+    public double probability(final int standing, final int pins) {
+        Preconditions.checkArgument(standing >= 1 && standing <= ALL_PINS, "Between 1 and 10 pins are standing");
+        return pins < 0 || pins > standing ? 0 : this.probabilities[standing][pins];
+    }
+
+    private static PinFallModel fromCounts(final long[][] counts) {
+        final double[][] probabilities = new double[ALL_PINS + 1][];
+        for (int standing = 1; standing <= ALL_PINS; standing++) {
+            long total = 0;
+            for (int pins = 0; pins <= standing; pins++) {
+                total += counts[standing][pins] + 1;
+            }
+
+            probabilities[standing] = new double[standing + 1];
+            for (int pins = 0; pins <= standing; pins++) {
+                probabilities[standing][pins] = (counts[standing][pins] + 1) / (double) total;
+            }
+        }
+        return new PinFallModel(probabilities);
+    }
+
+    /**
+     * Walks the frames of a game the same way {@link com.marchex.bowling.GameScorer} does, counting every ball
+     * against the pins that were standing for it.
+     */
+    private static void count(final int[] rolls, final int numRolls, final long[][] counts) {
+        int index = 0;
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES && index < numRolls; frameId++) {
+            int standing = ALL_PINS;
+            final int balls = frameId < NUMBER_OF_FRAMES - 1 ? 2 : 3;
+            for (int ball = 0; ball < balls && index < numRolls; ball++) {
+                final int pins = rolls[index++];
+                if (pins >= 0 && pins <= standing) {
+                    counts[standing][pins]++;
+                }
+
+                final boolean cleared = pins >= standing;
+                standing = cleared ? ALL_PINS : standing - pins;
+                final boolean frameOver = frameId < NUMBER_OF_FRAMES - 1
+                        ? cleared || ball == 1
+                        : ball == 1 && rolls[index - 2] + pins < ALL_PINS;
+                if (frameOver) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PinFallModel" + Arrays.deepToString(this.probabilities);
+    }
+}
@@ -0,0 +1,103 @@
+package com.marchex.bowling.forecast;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The probability of every final score of a game, from 0 to 300.
+ */
+public final class ScoreDistribution {
+    public static final int MAX_SCORE = 300;
+
+    private final double[] probabilities;
+
+    ScoreDistribution(final double[] probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * @return the distribution of a game that is over
+     */
+    static ScoreDistribution of(final int score) {
+        final double[] probabilities = new double[MAX_SCORE + 1];
+        probabilities[score] = 1;
+        return new ScoreDistribution(probabilities);
+    }
+
+    /**
+     * @param score a final score
+     * @return the probability that the game ends with the score
+     */
+    public double probability(final int score) {
+        return score < 0 || score > MAX_SCORE ? 0 : this.probabilities[score];
+    }
+
+    /**
+     * @param score a final score
+     * @return the probability that the game ends with the score or less
+     */
+    public double cumulativeProbability(final int score) {
+        double sum = 0;
+        for (int i = 0; i <= Math.min(score, MAX_SCORE); i++) {
+            sum += this.probabilities[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the expected final score
+     */
+    public double mean() {
+        double mean = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            mean += score * this.probabilities[score];
+        }
+        return mean;
+    }
+
+    /**
+     * @return the lowest final score with a probability above 0
+     */
+    public int lowestScore() {
+        int score = 0;
+        while (score < MAX_SCORE && this.probabilities[score] == 0) {
+            score++;
+        }
+        return score;
+    }
+
+    /**
+     * @return the highest final score with a probability above 0
+     */
+    public int highestScore() {
+        int score = MAX_SCORE;
+        while (score > 0 && this.probabilities[score] == 0) {
+            score--;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the probability that this game beats the other one, counting a tie as half a win, for games played
+     * independently of each other.
+     *
+     * @param other the distribution of the other game
+     * @return the probability of winning, between 0 and 1
+     */
+    public double winProbability(final ScoreDistribution other) {
+        Preconditions.checkNotNull(other, "other");
+
+        double win = 0;
+        double otherBelow = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            win += this.probabilities[score] * (otherBelow + other.probabilities[score] / 2);
+            otherBelow += other.probabilities[score];
+        }
+        return win;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScoreDistribution{mean=%.2f, lowest=%d, highest=%d}", mean(), lowestScore(),
+                highestScore());
+    }
+}
@@ -0,0 +1,559 @@
+package com.marchex.bowling.journal;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardSnapshot;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the score boards of the active games of a centre, keyed by lane, and appends every accepted operation to an
+ * append-only journal in a directory, see {@link RollJournalFormat}. Opening a journal directory rebuilds the games
+ * from the newest snapshot and the journal written after it.
+ * <p>
+ * Every record is written to the journal file as soon as its operation is accepted, so a crash of the process loses
+ * nothing. Only forcing the file to disk is batched: it is forced once groupCommitSize records have been written since
+ * the last force, or when {@link #sync()} is called, so a crash of the machine loses fewer than groupCommitSize
+ * records. Callers that also need a bound in time, e.g. for quiet lanes, call {@link #sync()} on a timer.
+ * <p>
+ * Every snapshotInterval records the games are written to a snapshot and a new journal segment is started, which
+ * keeps recovery time bounded by the number of active games rather than the length of the journal.
+ * <p>
+ * When writing a record fails, the operation is taken back from the game before the IOException is thrown, and
+ * whatever part of the record reached the file is truncated, so the games and the journal still agree. If the file
+ * can't be truncated, the journal is closed.
+ * <p>
+ * This class is not thread safe.
+ */
+public class RollJournal implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_GROUP_COMMIT_SIZE = 64;
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+    private static final int MAX_ROLLS_PER_GAME = 21;
+
+    private final Path directory;
+    private final int groupCommitSize;
+    private final int snapshotInterval;
+    private final Map<Integer, ScoreBoard> boards;
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private long sequence;
+    private int unforcedRecords;
+    private int recordsSinceSnapshot;
+    private boolean closed;
+
+    /**
+     * Opens a journal directory with a group commit of 64 records and a snapshot every 100000 records.
+     */
+    public RollJournal(final Path directory) throws IOException {
+        this(directory, DEFAULT_GROUP_COMMIT_SIZE, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens a journal directory, creating it when needed, and rebuilds the games recorded in it.
+     *
+     * @param directory        the journal directory
+     * @param groupCommitSize  number of records written between two forces to disk, 1 to force every record
+     * @param snapshotInterval number of records written between two snapshots
+     */
+    public RollJournal(final Path directory, final int groupCommitSize, final int snapshotInterval)
+            throws IOException {
+        Preconditions.checkArgument(groupCommitSize > 0, "groupCommitSize must be positive");
+        Preconditions.checkArgument(snapshotInterval > 0, "snapshotInterval must be positive");
+
+        this.directory = Files.createDirectories(directory);
+        this.groupCommitSize = groupCommitSize;
+        this.snapshotInterval = snapshotInterval;
+        this.boards = new HashMap<>();
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        recover();
+    }
+
+    /**
+     * Record the next ball points of the game on a lane, and journal them when they are accepted. The game is started
+     * if the lane has none.
+     *
+     * @return a {@link RollStatus} code, see {@link ScoreBoard#tryRecordPoints(int)}
+     */
+    public int recordPoints(final int lane, final int points) throws IOException {
+        prepareAppend();
+
+        final boolean started = !this.boards.containsKey(lane);
+        final ScoreBoard board = boardFor(lane);
+        final int status = board.tryRecordPoints(points);
+        if (status == RollStatus.OK) {
+            try {
+                append(lane, RollJournalFormat.ROLL, points);
+            } catch (IOException e) {
+                board.undoLastRoll();
+                if (started) {
+                    this.boards.remove(lane);
+                }
+                throw e;
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Takes back the last roll of the game on a lane, see {@link ScoreBoard#undoLastRoll()}.
+     *
+     * @return false if the lane has no roll to take back
+     */
+    public boolean undoLastRoll(final int lane) throws IOException {
+        prepareAppend();
+
+        final ScoreBoard board = this.boards.get(lane);
+        if (board == null || board.getNumRolls() == 0) {
+            return false;
+        }
+        final int points = lastRoll(board);
+        board.undoLastRoll();
+        try {
+            append(lane, RollJournalFormat.UNDO, 0);
+        } catch (IOException e) {
+            board.tryRecordPoints(points);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Starts a new game on a lane, replacing the game that was on it.
+     */
+    public void startGame(final int lane) throws IOException {
+        prepareAppend();
+
+        final ScoreBoard previous = this.boards.get(lane);
+        final ScoreBoardSnapshot game = previous != null ? previous.snapshot() : null;
+        newGame(lane);
+        try {
+            append(lane, RollJournalFormat.NEW_GAME, 0);
+        } catch (IOException e) {
+            if (game == null) {
+                this.boards.remove(lane);
+            } else {
+                restore(previous, game);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the game of a lane, so it is no longer recovered.
+     *
+     * @return false if the lane has no game
+     */
+    public boolean endGame(final int lane) throws IOException {
+        prepareAppend();
+
+        final ScoreBoard board = this.boards.remove(lane);
+        if (board == null) {
+            return false;
+        }
+        try {
+            append(lane, RollJournalFormat.END_GAME, 0);
+        } catch (IOException e) {
+            this.boards.put(lane, board);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * @return the score board of the game on a lane, or null if the lane has no game. Changes made to the board
+     * directly are not journaled.
+     */
+    public ScoreBoard getScoreBoard(final int lane) {
+        return this.boards.get(lane);
+    }
+
+    /**
+     * @return the lanes that have a game
+     */
+    public Set<Integer> getLanes() {
+        return Collections.unmodifiableSet(this.boards.keySet());
+    }
+
+    public int getGameCount() {
+        return this.boards.size();
+    }
+
+    /**
+     * Forces the records written since the last force to disk.
+     */
+    public void sync() throws IOException {
+        checkOpen();
+
+        flush();
+        this.channel.force(false);
+        this.unforcedRecords = 0;
+    }
+
+    /**
+     * Writes every game to a new snapshot and starts a new journal segment. The older snapshots and segments are
+     * deleted.
+     */
+    public void snapshot() throws IOException {
+        sync();
+
+        final long next = this.sequence + 1;
+        writeSnapshot(next);
+
+        this.channel.close();
+        this.sequence = next;
+        this.channel = openSegment(next, 0);
+        this.recordsSinceSnapshot = 0;
+        deleteOlderThan(next);
+    }
+
+    /**
+     * Syncs the pending records and closes the journal.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            sync();
+        } finally {
+            this.closed = true;
+            this.channel.close();
+        }
+    }
+
+    private void checkOpen() {
+        Preconditions.checkState(!this.closed, "The journal is closed");
+    }
+
+    /**
+     * Takes the snapshot due before the next record, so that a failing snapshot never leaves an operation applied
+     * to the games but not journaled.
+     */
+    private void prepareAppend() throws IOException {
+        checkOpen();
+
+        if (this.recordsSinceSnapshot >= this.snapshotInterval) {
+            snapshot();
+        }
+    }
+
+    private static int lastRoll(final ScoreBoard board) {
+        final List<Frame> frames = board.getFrames();
+        Frame frame = frames.get(Math.min(board.getCurrentFrameId(), frames.size() - 1));
+        if (frame.getNumBalls() == 0) {
+            frame = frames.get(frame.getFrameId() - 1);
+        }
+        return frame.getBallScoreValue(frame.getNumBalls() - 1);
+    }
+
+    private static void restore(final ScoreBoard board, final ScoreBoardSnapshot game) {
+        board.reset();
+        for (int i = 0; i < game.getNumRolls(); i++) {
+            board.tryRecordPoints(game.getRoll(i));
+        }
+    }
+
+    private ScoreBoard boardFor(final int lane) {
+        final ScoreBoard board = this.boards.get(lane);
+        return board != null ? board : newGame(lane);
+    }
+
+    private ScoreBoard newGame(final int lane) {
+        final ScoreBoard board = this.boards.get(lane);
+        if (board != null) {
+            board.reset();
+            return board;
+        }
+
+        final ScoreBoard created = new ScoreBoard();
+        this.boards.put(lane, created);
+        return created;
+    }
+
+    /**
+     * Writes a record, and forces it to disk with the records before it when a group commit is due. On failure the
+     * record is truncated from the file, or the journal is closed if that fails too.
+     */
+    private void append(final int lane, final byte operation, final int points) throws IOException {
+        long position = -1;
+        try {
+            position = this.channel.position();
+            this.buffer.putInt(lane).put(operation).put((byte) points);
+            flush();
+            if (this.unforcedRecords + 1 >= this.groupCommitSize) {
+                sync();
+            } else {
+                this.unforcedRecords++;
+            }
+        } catch (IOException e) {
+            this.buffer.clear();
+            discardFrom(position, e);
+            throw e;
+        }
+        this.recordsSinceSnapshot++;
+    }
+
+    private void discardFrom(final long position, final IOException failure) {
+        if (this.channel.isOpen()) {
+            try {
+                if (position >= 0) {
+                    this.channel.truncate(position);
+                }
+                return;
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        this.closed = true;
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private void recover() throws IOException {
+        final long snapshotSequence = newestSequence(RollJournalFormat.SNAPSHOT_PREFIX,
+                RollJournalFormat.SNAPSHOT_SUFFIX);
+        if (snapshotSequence >= 0) {
+            readSnapshot(RollJournalFormat.snapshotPath(this.directory, snapshotSequence));
+        }
+
+        final List<Long> segments = sequences(RollJournalFormat.JOURNAL_PREFIX, RollJournalFormat.JOURNAL_SUFFIX);
+        long validLength = 0;
+        this.sequence = Math.max(snapshotSequence, 0);
+        for (final long segment : segments) {
+            if (segment >= this.sequence) {
+                this.sequence = segment;
+                validLength = replaySegment(RollJournalFormat.journalPath(this.directory, segment));
+            }
+        }
+
+        this.channel = openSegment(this.sequence, validLength);
+        deleteOlderThan(this.sequence);
+    }
+
+    private void readSnapshot(final Path path) throws IOException {
+        final ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (snapshot.remaining() < RollJournalFormat.SNAPSHOT_HEADER_SIZE
+                || snapshot.getInt() != RollJournalFormat.SNAPSHOT_MAGIC) {
+            throw new IOException("Not a roll journal snapshot: " + path);
+        }
+        if (snapshot.getShort() != RollJournalFormat.VERSION) {
+            throw new IOException("Unsupported roll journal snapshot version: " + path);
+        }
+        snapshot.getShort();
+
+        final int gameCount = snapshot.getInt();
+        for (int game = 0; game < gameCount; game++) {
+            final ScoreBoard board = newGame(snapshot.getInt());
+            final int numRolls = snapshot.get();
+            for (int i = 0; i < numRolls; i++) {
+                board.tryRecordPoints(snapshot.get());
+            }
+        }
+    }
+
+    /**
+     * Applies the records of a journal segment to the games. Replay stops at the first record cut short or with an
+     * unknown operation, e.g. the zeros a power loss can leave at the end of a file.
+     *
+     * @return the length of the segment up to its last valid record, or 0 if it doesn't even have a whole header
+     */
+    private long replaySegment(final Path path) throws IOException {
+        try (FileChannel segment = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (segment.size() < RollJournalFormat.HEADER_SIZE) {
+                return 0;
+            }
+
+            final ByteBuffer header = ByteBuffer.allocate(RollJournalFormat.HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (segment.read(header) < 0) {
+                    throw new EOFException("Roll journal header cut short: " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != RollJournalFormat.JOURNAL_MAGIC) {
+                throw new IOException("Not a roll journal: " + path);
+            }
+            if (header.getShort() != RollJournalFormat.VERSION) {
+                throw new IOException("Unsupported roll journal version: " + path);
+            }
+
+            long length = RollJournalFormat.HEADER_SIZE;
+            this.buffer.clear();
+            while (segment.read(this.buffer) >= 0) {
+                this.buffer.flip();
+                while (this.buffer.remaining() >= RollJournalFormat.RECORD_SIZE) {
+                    if (!apply(this.buffer.getInt(), this.buffer.get(), this.buffer.get())) {
+                        this.buffer.clear();
+                        return length;
+                    }
+                    length += RollJournalFormat.RECORD_SIZE;
+                }
+                this.buffer.compact();
+            }
+            this.buffer.clear();
+            return length;
+        }
+    }
+
+    /**
+     * @return false if the operation is unknown
+     */
+    private boolean apply(final int lane, final byte operation, final int points) {
+        switch (operation) {
+            case RollJournalFormat.ROLL:
+                boardFor(lane).tryRecordPoints(points);
+                break;
+            case RollJournalFormat.UNDO:
+                if (this.boards.containsKey(lane)) {
+                    this.boards.get(lane).undoLastRoll();
+                }
+                break;
+            case RollJournalFormat.NEW_GAME:
+                newGame(lane);
+                break;
+            case RollJournalFormat.END_GAME:
+                this.boards.remove(lane);
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Opens a journal segment for appending after its first validLength bytes, dropping anything after them.
+     */
+    private FileChannel openSegment(final long segment, final long validLength) throws IOException {
+        final FileChannel opened = FileChannel.open(RollJournalFormat.journalPath(this.directory, segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            opened.truncate(validLength);
+            opened.position(validLength);
+            if (validLength == 0) {
+                final ByteBuffer header = ByteBuffer.allocate(RollJournalFormat.HEADER_SIZE);
+                header.putInt(RollJournalFormat.JOURNAL_MAGIC).putShort(RollJournalFormat.VERSION).putShort((short) 0);
+                header.flip();
+                while (header.hasRemaining()) {
+                    opened.write(header);
+                }
+                opened.force(false);
+            }
+            return opened;
+        } catch (IOException | RuntimeException e) {
+            opened.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file first, so that a crash never leaves a partial snapshot behind.
+     */
+    private void writeSnapshot(final long next) throws IOException {
+        final Path path = RollJournalFormat.snapshotPath(this.directory, next);
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel snapshot = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            this.buffer.clear();
+            this.buffer.putInt(RollJournalFormat.SNAPSHOT_MAGIC)
+                    .putShort(RollJournalFormat.VERSION)
+                    .putShort((short) 0)
+                    .putInt(this.boards.size());
+
+            for (final Map.Entry<Integer, ScoreBoard> game : this.boards.entrySet()) {
+                if (this.buffer.remaining() < 5 + MAX_ROLLS_PER_GAME) {
+                    writeBuffer(snapshot);
+                }
+
+                final ScoreBoard board = game.getValue();
+                this.buffer.putInt(game.getKey()).put((byte) board.getNumRolls());
+                for (final Frame frame : board.getFrames()) {
+                    for (int ball = 0; ball < frame.getNumBalls(); ball++) {
+                        this.buffer.put((byte) frame.getBallScoreValue(ball));
+                    }
+                }
+            }
+            writeBuffer(snapshot);
+            snapshot.force(false);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeBuffer(final FileChannel target) throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            target.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private void deleteOlderThan(final long oldest) throws IOException {
+        for (final long segment : sequences(RollJournalFormat.JOURNAL_PREFIX, RollJournalFormat.JOURNAL_SUFFIX)) {
+            if (segment < oldest) {
+                Files.deleteIfExists(RollJournalFormat.journalPath(this.directory, segment));
+            }
+        }
+        for (final long snapshot : sequences(RollJournalFormat.SNAPSHOT_PREFIX, RollJournalFormat.SNAPSHOT_SUFFIX)) {
+            if (snapshot < oldest) {
+                Files.deleteIfExists(RollJournalFormat.snapshotPath(this.directory, snapshot));
+            }
+        }
+    }
+
+    private long newestSequence(final String prefix, final String suffix) throws IOException {
+        final List<Long> sequences = sequences(prefix, suffix);
+        return sequences.isEmpty() ? -1 : sequences.get(sequences.size() - 1);
+    }
+
+    /**
+     * @return the sequence numbers of the journal or snapshot files in the directory, in ascending order
+     */
+    private List<Long> sequences(final String prefix, final String suffix) throws IOException {
+        final List<Long> sequences = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, prefix + "*" + suffix)) {
+            for (final Path file : files) {
+                final long sequence = RollJournalFormat.sequenceOf(file, prefix, suffix);
+                if (sequence >= 0) {
+                    sequences.add(sequence);
+                }
+            }
+        }
+        Collections.sort(sequences);
+        return sequences;
+    }
+}
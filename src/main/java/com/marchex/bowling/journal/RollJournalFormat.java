@@ -0,0 +1,61 @@
+package com.marchex.bowling.journal;
+
+import java.nio.file.Path;
+
+/**
+ * Layout of the files of a roll journal directory. All numbers are big endian.
+ * <pre>
+ * journal-&lt;sequence&gt;.log    header   magic (int), version (short), reserved (short)
+ *                            records  per accepted operation: lane (int), operation (byte), points (byte)
+ * snapshot-&lt;sequence&gt;.snap  header   magic (int), version (short), reserved (short), game count (int)
+ *                            games    per game: lane (int), number of rolls (byte), then the rolls (byte each)
+ * </pre>
+ * A snapshot holds every game as it was before the journal segment with the same sequence number, so recovery loads
+ * the newest snapshot and replays the segments from its sequence number on. A record cut short by a crash, or with an
+ * unknown operation such as the zeros a power loss can leave behind, is dropped together with everything after it.
+ */
+final class RollJournalFormat {
+    static final int JOURNAL_MAGIC = 0x424A524E;
+    static final int SNAPSHOT_MAGIC = 0x42534E50;
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 8;
+    static final int SNAPSHOT_HEADER_SIZE = 12;
+    static final int RECORD_SIZE = 6;
+
+    static final byte ROLL = 1;
+    static final byte UNDO = 2;
+    static final byte NEW_GAME = 3;
+    static final byte END_GAME = 4;
+
+    static final String JOURNAL_PREFIX = "journal-";
+    static final String JOURNAL_SUFFIX = ".log";
+    static final String SNAPSHOT_PREFIX = "snapshot-";
+    static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private RollJournalFormat() {
+    }
+
+    static Path journalPath(final Path directory, final long sequence) {
+        return directory.resolve(JOURNAL_PREFIX + sequence + JOURNAL_SUFFIX);
+    }
+
+    static Path snapshotPath(final Path directory, final long sequence) {
+        return directory.resolve(SNAPSHOT_PREFIX + sequence + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * @return the sequence number of a journal or snapshot file, or -1 if the file is neither
+     */
+    static long sequenceOf(final Path file, final String prefix, final String suffix) {
+        final String name = file.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.marchex.bowling.log;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses roll logs written by lane controllers and records the rolls on one {@link ScoreBoard} per game.
+ * <p>
+ * A roll log has one roll per line, {@code lane,game,frame,roll,pins}, all non negative numbers. An optional header
+ * line is skipped. The log is decoded straight from the bytes read off the channel, without building strings. The
+ * frame and roll columns are checked to be numbers, the score board keeps track of frames itself.
+ * <p>
+ * Malformed lines and rolls rejected by the score board are reported to a {@link Listener} with the byte offset of
+ * the start of their line.
+ */
+public class RollLogParser {
+    public static final String WRONG_FIELD_COUNT = "expected lane,game,frame,roll,pins";
+    public static final String NOT_A_NUMBER = "not a number";
+    public static final String EMPTY_FIELD = "empty field";
+    public static final String NUMBER_TOO_LARGE = "number too large";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NUM_FIELDS = 5;
+    private static final int LANE = 0;
+    private static final int GAME = 1;
+    private static final int PINS = 4;
+    private static final int MAX_DIGITS = 9;
+
+    /**
+     * Receives the problems found in a roll log.
+     */
+    public interface Listener {
+        /**
+         * @param offset byte offset of the start of the line
+         * @param reason one of the reason constants of {@link RollLogParser}
+         */
+        default void malformedLine(final long offset, final String reason) {
+        }
+
+        /**
+         * @param offset byte offset of the start of the line
+         * @param status the {@link RollStatus} the score board rejected the roll with
+         */
+        default void rejectedRoll(final long offset, final int lane, final int game, final int status) {
+        }
+    }
+
+    private final Listener listener;
+    private final Map<Long, ScoreBoard> boards;
+    private final int[] fields;
+
+    // consecutive rolls are usually for the same game
+    private long lastGameKey;
+    private ScoreBoard lastBoard;
+
+    private long lineCount;
+    private long rollCount;
+    private long malformedLineCount;
+    private long rejectedRollCount;
+
+    public RollLogParser(final Listener listener) {
+        this.listener = Preconditions.checkNotNull(listener, "listener");
+        this.boards = new HashMap<>();
+        this.fields = new int[NUM_FIELDS];
+    }
+
+    /**
+     * Parses a whole roll log, until the end of the channel. The channel must be blocking.
+     *
+     * @param channel the roll log
+     */
+    public void parse(final ReadableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final byte[] bytes = buffer.array();
+
+        long bufferOffset = 0;
+        long lineStart = 0;
+        int field = 0;
+        int value = 0;
+        int digits = 0;
+        String error = null;
+        boolean header = false;
+        boolean blank = true;
+
+        int read;
+        while ((read = channel.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                final byte b = bytes[i];
+                blank &= b == '\r' || b == '\n';
+
+                if (b >= '0' && b <= '9') {
+                    if (digits >= MAX_DIGITS) {
+                        error = error == null ? NUMBER_TOO_LARGE : error;
+                    } else {
+                        value = value * 10 + (b - '0');
+                    }
+                    digits++;
+                } else if (b == ',' || b == '\n') {
+                    if (digits == 0 && error == null) {
+                        error = EMPTY_FIELD;
+                    }
+                    if (field < NUM_FIELDS) {
+                        this.fields[field] = value;
+                    }
+                    field++;
+                    value = 0;
+                    digits = 0;
+
+                    if (b == '\n') {
+                        if (!header && !blank) {
+                            endLine(lineStart, field, error);
+                        }
+                        lineStart = bufferOffset + i + 1;
+                        field = 0;
+                        error = null;
+                        header = false;
+                        blank = true;
+                    }
+                } else if (b != '\r') {
+                    // a first line starting with a letter is a header
+                    header |= bufferOffset + i == 0 && (b >= 'a' && b <= 'z' || b >= 'A' && b <= 'Z');
+                    error = error == null ? NOT_A_NUMBER : error;
+                }
+            }
+
+            bufferOffset += read;
+            buffer.clear();
+        }
+
+        // last line without a line ending
+        if (!header && !blank) {
+            if (digits == 0 && error == null) {
+                error = EMPTY_FIELD;
+            }
+            if (field < NUM_FIELDS) {
+                this.fields[field] = value;
+            }
+            endLine(lineStart, field + 1, error);
+        }
+    }
+
+    /**
+     * @return the score board of a game, or null if the log had no roll for it
+     */
+    public ScoreBoard getScoreBoard(final int lane, final int game) {
+        return this.boards.get(gameKey(lane, game));
+    }
+
+    /**
+     * @return number of games seen in the logs
+     */
+    public int getGameCount() {
+        return this.boards.size();
+    }
+
+    /**
+     * @return number of non blank lines parsed, without the headers
+     */
+    public long getLineCount() {
+        return this.lineCount;
+    }
+
+    /**
+     * @return number of rolls recorded on a score board
+     */
+    public long getRollCount() {
+        return this.rollCount;
+    }
+
+    public long getMalformedLineCount() {
+        return this.malformedLineCount;
+    }
+
+    public long getRejectedRollCount() {
+        return this.rejectedRollCount;
+    }
+
+    private void endLine(final long lineStart, final int numFields, final String error) {
+        this.lineCount++;
+
+        if (error == null && numFields != NUM_FIELDS) {
+            this.malformedLineCount++;
+            this.listener.malformedLine(lineStart, WRONG_FIELD_COUNT);
+            return;
+        }
+        if (error != null) {
+            this.malformedLineCount++;
+            this.listener.malformedLine(lineStart, error);
+            return;
+        }
+
+        final int lane = this.fields[LANE];
+        final int game = this.fields[GAME];
+        final ScoreBoard board = boardFor(lane, game);
+        final int status = board.tryRecordPoints(this.fields[PINS]);
+        if (status == RollStatus.OK || status == RollStatus.GAME_COMPLETE) {
+            this.rollCount++;
+        } else {
+            this.rejectedRollCount++;
+            this.listener.rejectedRoll(lineStart, lane, game, status);
+        }
+    }
+
+    private ScoreBoard boardFor(final int lane, final int game) {
+        final long key = gameKey(lane, game);
+        if (this.lastBoard == null || key != this.lastGameKey) {
+            this.lastGameKey = key;
+            this.lastBoard = this.boards.computeIfAbsent(key, k -> new ScoreBoard());
+        }
+        return this.lastBoard;
+    }
+
+    private static long gameKey(final int lane, final int game) {
+        return ((long) lane << 32) | (game & 0xFFFFFFFFL);
+    }
+}
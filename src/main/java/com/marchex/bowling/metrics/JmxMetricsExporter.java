@@ -0,0 +1,144 @@
+package com.marchex.bowling.metrics;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.RollStatus;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers the metrics as an MBean, so they can be watched live with JConsole or any JMX client. The attributes are
+ * read from the metrics whenever they are asked for.
+ */
+public class JmxMetricsExporter implements MetricsExporter, Closeable {
+    private static final int NUMBER_OF_FRAMES = 10;
+
+    private final MBeanServer server;
+    private final ObjectName name;
+
+    /**
+     * Exports to the platform MBean server under {@code com.marchex.bowling:type=ScoringMetrics}.
+     */
+    public JmxMetricsExporter() throws IOException {
+        this(ManagementFactory.getPlatformMBeanServer(), "com.marchex.bowling:type=ScoringMetrics");
+    }
+
+    public JmxMetricsExporter(final MBeanServer server, final String name) throws IOException {
+        this.server = Preconditions.checkNotNull(server, "server");
+        try {
+            this.name = new ObjectName(name);
+        } catch (JMException e) {
+            throw new IOException("Invalid MBean name " + name, e);
+        }
+    }
+
+    /**
+     * Registers the metrics, replacing the metrics exported before under the same name.
+     */
+    @Override
+    public void export(final ScoringMetrics metrics) throws IOException {
+        try {
+            if (this.server.isRegistered(this.name)) {
+                this.server.unregisterMBean(this.name);
+            }
+            this.server.registerMBean(new StandardMBean(new View(metrics), ScoringMetricsMBean.class), this.name);
+        } catch (JMException e) {
+            throw new IOException("Could not register " + this.name, e);
+        }
+    }
+
+    /**
+     * Unregisters the metrics.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.server.isRegistered(this.name)) {
+                this.server.unregisterMBean(this.name);
+            }
+        } catch (JMException e) {
+            throw new IOException("Could not unregister " + this.name, e);
+        }
+    }
+
+    private static final class View implements ScoringMetricsMBean {
+        private final ScoringMetrics metrics;
+
+        View(final ScoringMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public long getRolls() {
+            return this.metrics.getRolls();
+        }
+
+        @Override
+        public long getOverflows() {
+            return this.metrics.getCount(RollStatus.OVERFLOW);
+        }
+
+        @Override
+        public long getFullFrames() {
+            return this.metrics.getCount(RollStatus.FRAME_FULL);
+        }
+
+        @Override
+        public long getOutOfRange() {
+            return this.metrics.getCount(RollStatus.OUT_OF_RANGE);
+        }
+
+        @Override
+        public long getRollsAfterGameComplete() {
+            return this.metrics.getCount(RollStatus.GAME_COMPLETE);
+        }
+
+        @Override
+        public long getLatencyCount() {
+            return this.metrics.getLatency().getCount();
+        }
+
+        @Override
+        public long getLatencyP50Nanos() {
+            return this.metrics.getLatency().getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getLatencyP99Nanos() {
+            return this.metrics.getLatency().getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getLatencyP999Nanos() {
+            return this.metrics.getLatency().getValueAtPercentile(99.9);
+        }
+
+        @Override
+        public long getLatencyMaxNanos() {
+            return this.metrics.getLatency().getMax();
+        }
+
+        @Override
+        public long[] getStrikesPerFrame() {
+            final long[] strikes = new long[NUMBER_OF_FRAMES];
+            for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+                strikes[frameId] = this.metrics.getStrikes(frameId);
+            }
+            return strikes;
+        }
+
+        @Override
+        public long[] getSparesPerFrame() {
+            final long[] spares = new long[NUMBER_OF_FRAMES];
+            for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+                spares[frameId] = this.metrics.getSpares(frameId);
+            }
+            return spares;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.marchex.bowling.metrics;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds with log-linear buckets, in the style of HdrHistogram: values below 32 get a
+ * bucket each, and every power of two above gets 16 buckets, so a recorded value is off by at most 1/16 of itself.
+ * Recording is a single atomic increment and never allocates, and can be done from several threads.
+ * <p>
+ * Like a {@link java.util.concurrent.atomic.LongAdder}, the counts are striped: every thread increments the buckets of
+ * the stripe picked by its id, so threads recording the same latencies don't contend on the same cache lines, and the
+ * stripes are summed when the histogram is read.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int LINEAR_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKETS = LINEAR_BUCKETS / 2;
+    private static final int NUM_BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads number of threads expected to record at the same time, rounded up to a power of two stripes
+     */
+    LatencyHistogram(final int threads) {
+        Preconditions.checkArgument(threads > 0, "threads must be positive");
+
+        final int numStripes = threads == 1 ? 1 : Integer.highestOneBit(threads - 1) << 1;
+        this.stripes = new AtomicLongArray[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            this.stripes[i] = new AtomicLongArray(NUM_BUCKETS);
+        }
+        this.stripeMask = numStripes - 1;
+    }
+
+    /**
+     * @param nanos a latency, negative values count as 0
+     */
+    public void record(final long nanos) {
+        final int stripe = (int) Thread.currentThread().getId() & this.stripeMask;
+        this.stripes[stripe].incrementAndGet(bucketOf(Math.max(0, nanos)));
+    }
+
+    /**
+     * @return number of recorded latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (final AtomicLongArray stripe : this.stripes) {
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                count += stripe.get(i);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the highest value of the bucket holding the percentile, or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "percentile is between 0 and 100");
+
+        final long[] snapshot = snapshot();
+        long count = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+        return highestValueOf(NUM_BUCKETS - 1);
+    }
+
+    /**
+     * @return the highest value of the highest bucket that has a recorded latency, or 0 if nothing has been recorded
+     */
+    public long getMax() {
+        final long[] snapshot = snapshot();
+        for (int i = NUM_BUCKETS - 1; i >= 0; i--) {
+            if (snapshot[i] != 0) {
+                return highestValueOf(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clears the recorded latencies. Latencies recorded by other threads meanwhile may or may not be kept.
+     */
+    public void reset() {
+        for (final AtomicLongArray stripe : this.stripes) {
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                stripe.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * @return the counts of the buckets, summed over the stripes
+     */
+    private long[] snapshot() {
+        final long[] snapshot = new long[NUM_BUCKETS];
+        for (final AtomicLongArray stripe : this.stripes) {
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                snapshot[i] += stripe.get(i);
+            }
+        }
+        return snapshot;
+    }
+
+    static int bucketOf(final long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+
+        // the top SUB_BUCKET_BITS bits of the value pick the bucket within its power of two
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - (SUB_BUCKET_BITS - 1);
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(final int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+
+        final int exponent = SUB_BUCKET_BITS + (bucket - LINEAR_BUCKETS) / SUB_BUCKETS;
+        final int shift = exponent - (SUB_BUCKET_BITS - 1);
+        final long subBucket = SUB_BUCKETS + (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
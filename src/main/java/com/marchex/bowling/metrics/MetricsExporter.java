@@ -0,0 +1,11 @@
+package com.marchex.bowling.metrics;
+
+import java.io.IOException;
+
+/**
+ * Publishes scoring metrics somewhere they can be looked at, e.g. {@link TextMetricsExporter} or
+ * {@link JmxMetricsExporter}.
+ */
+public interface MetricsExporter {
+    void export(ScoringMetrics metrics) throws IOException;
+}
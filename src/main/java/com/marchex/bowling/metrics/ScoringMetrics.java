@@ -0,0 +1,117 @@
+package com.marchex.bowling.metrics;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.RollStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latencies of scoring, shared by the score boards it is passed to, see
+ * {@link com.marchex.bowling.ScoreBoard#ScoreBoard(ScoringMetrics)}. Counters are {@link LongAdder}s, so score boards
+ * on many threads can update them without contending, and nothing here allocates when recording.
+ * <p>
+ * Score boards created without metrics skip all of this, so metrics that are not wanted cost nothing.
+ */
+public class ScoringMetrics {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final int NUM_STATUSES = RollStatus.OUT_OF_RANGE + 1;
+    private static final int ALL_PINS = 10;
+
+    private final LongAdder[] statuses;
+    private final LongAdder[] strikes;
+    private final LongAdder[] spares;
+    private final LatencyHistogram latency;
+
+    public ScoringMetrics() {
+        this.statuses = newAdders(NUM_STATUSES);
+        this.strikes = newAdders(NUMBER_OF_FRAMES);
+        this.spares = newAdders(NUMBER_OF_FRAMES);
+        this.latency = new LatencyHistogram();
+    }
+
+    /**
+     * Counts a call to record points and its latency.
+     *
+     * @param status the {@link RollStatus} of the call
+     */
+    public void rollProcessed(final int status, final long latencyNanos) {
+        this.statuses[status].increment();
+        this.latency.record(latencyNanos);
+    }
+
+    /**
+     * Counts a finished frame as a strike when its first ball knocked all the pins down, or as a spare when its first
+     * two balls did.
+     */
+    public void frameFinished(final Frame frame) {
+        if (frame.getFirstBallScoreValue() == ALL_PINS) {
+            this.strikes[frame.getFrameId()].increment();
+        } else if (frame.getTwoBallScoreValue() == ALL_PINS) {
+            this.spares[frame.getFrameId()].increment();
+        }
+    }
+
+    /**
+     * @return number of rolls recorded
+     */
+    public long getRolls() {
+        return this.statuses[RollStatus.OK].sum();
+    }
+
+    /**
+     * @param status a {@link RollStatus}
+     * @return number of calls to record points that returned the status
+     */
+    public long getCount(final int status) {
+        Preconditions.checkArgument(status >= 0 && status < NUM_STATUSES, "Unknown status %s", status);
+        return this.statuses[status].sum();
+    }
+
+    /**
+     * @return number of calls to record points that were rejected, not counting rolls ignored after the game
+     */
+    public long getRejections() {
+        return getCount(RollStatus.OVERFLOW) + getCount(RollStatus.FRAME_FULL) + getCount(RollStatus.OUT_OF_RANGE);
+    }
+
+    public long getStrikes(final int frameId) {
+        return this.strikes[checkFrameId(frameId)].sum();
+    }
+
+    public long getSpares(final int frameId) {
+        return this.spares[checkFrameId(frameId)].sum();
+    }
+
+    /**
+     * @return the latencies of the calls to record points, in nanoseconds
+     */
+    public LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+    /**
+     * Clears all counters and latencies.
+     */
+    public void reset() {
+        for (final LongAdder[] adders : new LongAdder[][]{this.statuses, this.strikes, this.spares}) {
+            for (final LongAdder adder : adders) {
+                adder.reset();
+            }
+        }
+        this.latency.reset();
+    }
+
+    private static int checkFrameId(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < NUMBER_OF_FRAMES, "Valid FrameID is between 0 and 9.");
+        return frameId;
+    }
+
+    private static LongAdder[] newAdders(final int count) {
+        final LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,30 @@
+package com.marchex.bowling.metrics;
+
+/**
+ * The scoring metrics as seen through JMX, see {@link JmxMetricsExporter}.
+ */
+public interface ScoringMetricsMBean {
+    long getRolls();
+
+    long getOverflows();
+
+    long getFullFrames();
+
+    long getOutOfRange();
+
+    long getRollsAfterGameComplete();
+
+    long getLatencyCount();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+    long getLatencyMaxNanos();
+
+    long[] getStrikesPerFrame();
+
+    long[] getSparesPerFrame();
+}
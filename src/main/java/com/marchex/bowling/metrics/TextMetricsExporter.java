@@ -0,0 +1,46 @@
+package com.marchex.bowling.metrics;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.RollStatus;
+
+import java.io.IOException;
+
+/**
+ * Writes the current values of the metrics as lines of {@code <name> <value>}, e.g. for a log or a status page.
+ */
+public class TextMetricsExporter implements MetricsExporter {
+    private static final int NUMBER_OF_FRAMES = 10;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99_9"};
+    private static final String[] STATUS_NAMES = {"ok", "overflow", "frame_full", "game_complete", "out_of_range"};
+
+    private final Appendable out;
+
+    public TextMetricsExporter(final Appendable out) {
+        this.out = Preconditions.checkNotNull(out, "out");
+    }
+
+    @Override
+    public void export(final ScoringMetrics metrics) throws IOException {
+        line("rolls", metrics.getRolls());
+        for (int status = RollStatus.OVERFLOW; status < STATUS_NAMES.length; status++) {
+            line("status." + STATUS_NAMES[status], metrics.getCount(status));
+        }
+
+        final LatencyHistogram latency = metrics.getLatency();
+        line("latency.count", latency.getCount());
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            line("latency." + PERCENTILE_NAMES[i] + ".nanos", latency.getValueAtPercentile(PERCENTILES[i]));
+        }
+        line("latency.max.nanos", latency.getMax());
+
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            line("frame." + frameId + ".strikes", metrics.getStrikes(frameId));
+            line("frame." + frameId + ".spares", metrics.getSpares(frameId));
+        }
+    }
+
+    private void line(final String name, final long value) throws IOException {
+        this.out.append(name).append(' ').append(Long.toString(value)).append('\n');
+    }
+}
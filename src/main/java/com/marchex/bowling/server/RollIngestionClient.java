@@ -0,0 +1,101 @@
+package com.marchex.bowling.server;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A blocking client for {@link RollIngestionServer}. Requests can be pipelined by calling {@link #send(String, int)}
+ * several times before reading the replies in order with {@link #receive()}.
+ */
+public class RollIngestionClient implements Closeable {
+    private final Socket socket;
+    private final Writer writer;
+    private final BufferedReader reader;
+
+    public RollIngestionClient(final InetSocketAddress address) throws IOException {
+        this.socket = new Socket();
+        this.socket.setTcpNoDelay(true);
+        this.socket.connect(address);
+        this.writer = new BufferedWriter(new OutputStreamWriter(this.socket.getOutputStream(), StandardCharsets.US_ASCII));
+        this.reader = new BufferedReader(new InputStreamReader(this.socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Records a roll on a lane and waits for the reply.
+     *
+     * @return the updated total of the lane
+     * @throws InvalidScoreException when the server rejected the roll
+     */
+    public int recordPoints(final String laneId, final int points) throws IOException, InvalidScoreException {
+        send(laneId, points);
+        flush();
+        return receive();
+    }
+
+    /**
+     * Starts a new game on the lane and waits for the reply.
+     */
+    public void startGame(final String laneId) throws IOException, InvalidScoreException {
+        sendLine(laneId, RollIngestionServer.NEW_GAME);
+        flush();
+        receive();
+    }
+
+    /**
+     * Queues a roll without waiting for its reply.
+     */
+    public void send(final String laneId, final int points) throws IOException {
+        sendLine(laneId, Integer.toString(points));
+    }
+
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    /**
+     * Reads the reply of the oldest request that has not been answered yet.
+     *
+     * @return the updated total of the lane
+     * @throws InvalidScoreException when the server rejected the roll
+     */
+    public int receive() throws IOException, InvalidScoreException {
+        final String reply = this.reader.readLine();
+        if (reply == null) {
+            throw new IOException("The server closed the connection");
+        }
+
+        if (reply.startsWith(RollIngestionServer.REJECTED)) {
+            throw new InvalidScoreException(reply.substring(RollIngestionServer.REJECTED.length()).trim());
+        }
+        if (reply.startsWith(RollIngestionServer.ERROR)) {
+            throw new IOException(reply.substring(RollIngestionServer.ERROR.length()).trim());
+        }
+
+        return Integer.parseInt(reply);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+
+    private void sendLine(final String laneId, final String value) throws IOException {
+        Preconditions.checkArgument(laneId.indexOf('\n') < 0 && !laneId.isEmpty(), "Invalid lane id %s", laneId);
+
+        this.writer.write(laneId);
+        this.writer.write(',');
+        this.writer.write(value);
+        this.writer.write('\n');
+    }
+}
@@ -0,0 +1,257 @@
+package com.marchex.bowling.server;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoardRegistry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * A TCP server that records rolls sent by pinsetter controllers into a {@link ScoreBoardRegistry}.
+ * <p>
+ * The protocol is line based. Every request line is {@code <laneId>,<pins>} or {@code <laneId>,new} to start a new
+ * game on the lane, and gets one reply line: the updated total of the lane, {@code REJECTED <message>} when the roll
+ * is not valid for the game, or {@code ERROR <message>} when the line cannot be parsed. Requests can be pipelined.
+ * <p>
+ * All connections are served by one selector thread.
+ */
+public class RollIngestionServer implements Closeable {
+    public static final String NEW_GAME = "new";
+    public static final String REJECTED = "REJECTED";
+    public static final String ERROR = "ERROR";
+
+    private static final int MAX_LINE_LENGTH = 256;
+    private static final int MAX_REPLY_LENGTH = MAX_LINE_LENGTH + 16;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ScoreBoardRegistry registry;
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final Thread selectorThread;
+    private volatile boolean running;
+
+    /**
+     * Binds the server. Call {@link #start()} to start accepting connections.
+     *
+     * @param registry the score boards of the lanes
+     * @param address  address to listen on, port 0 picks a free port
+     */
+    public RollIngestionServer(final ScoreBoardRegistry registry, final InetSocketAddress address) throws IOException {
+        this.registry = Preconditions.checkNotNull(registry, "registry");
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(address);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+        this.selectorThread = new Thread(this::run, "roll-ingestion-server");
+    }
+
+    public void start() {
+        Preconditions.checkState(!this.running, "The server is already started");
+
+        this.running = true;
+        this.selectorThread.start();
+    }
+
+    public int getPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    public ScoreBoardRegistry getRegistry() {
+        return this.registry;
+    }
+
+    /**
+     * Stops the server and closes all the connections.
+     */
+    @Override
+    public void close() throws IOException {
+        this.running = false;
+        this.selector.wakeup();
+        try {
+            this.selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (final SelectionKey key : this.selector.keys()) {
+            key.channel().close();
+        }
+        this.selector.close();
+    }
+
+    private void run() {
+        while (this.running) {
+            try {
+                this.selector.select();
+            } catch (IOException e) {
+                return;
+            }
+
+            final Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                final SelectionKey key = keys.next();
+                keys.remove();
+
+                try {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        serve(key);
+                    }
+                } catch (IOException e) {
+                    closeConnection(key);
+                }
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        final SocketChannel channel = this.serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.register(this.selector, SelectionKey.OP_READ, new Connection());
+    }
+
+    private void serve(final SelectionKey key) throws IOException {
+        final SocketChannel channel = (SocketChannel) key.channel();
+        final Connection connection = (Connection) key.attachment();
+
+        if (key.isWritable()) {
+            flush(channel, connection);
+        }
+
+        if (key.isReadable() && channel.read(connection.in) < 0) {
+            connection.closing = true;
+        }
+
+        processLines(connection);
+        flush(channel, connection);
+        while (connection.stalled && connection.out.position() == 0) {
+            processLines(connection);
+            flush(channel, connection);
+        }
+
+        if (connection.out.position() > 0) {
+            // the client is not reading its replies, stop reading its requests until they are sent
+            key.interestOps(SelectionKey.OP_WRITE);
+        } else if (connection.closing) {
+            closeConnection(key);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void processLines(final Connection connection) {
+        final ByteBuffer in = connection.in;
+        in.flip();
+
+        int lineStart = in.position();
+        connection.stalled = false;
+        for (int i = lineStart; i < in.limit(); i++) {
+            if (connection.out.remaining() < MAX_REPLY_LENGTH) {
+                connection.stalled = true;
+                break;
+            }
+
+            if (in.get(i) == '\n') {
+                final int lineEnd = i > lineStart && in.get(i - 1) == '\r' ? i - 1 : i;
+                reply(connection.out, handleLine(in, lineStart, lineEnd));
+                lineStart = i + 1;
+            }
+        }
+
+        in.position(lineStart);
+        if (!connection.stalled && in.position() == 0 && in.limit() == in.capacity()) {
+            // a full buffer without a line ending: the client is not speaking the protocol
+            reply(connection.out, ERROR + " line too long");
+            in.clear();
+            connection.closing = true;
+            return;
+        }
+        in.compact();
+    }
+
+    private String handleLine(final ByteBuffer in, final int start, final int end) {
+        if (end - start > MAX_LINE_LENGTH) {
+            return ERROR + " line too long";
+        }
+
+        final byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = in.get(start + i);
+        }
+        final String line = new String(bytes, StandardCharsets.US_ASCII);
+
+        final int comma = line.lastIndexOf(',');
+        if (comma <= 0) {
+            return ERROR + " expected <laneId>,<pins>";
+        }
+
+        final String laneId = line.substring(0, comma);
+        final String value = line.substring(comma + 1);
+
+        if (NEW_GAME.equals(value)) {
+            this.registry.startGame(laneId);
+            return Integer.toString(this.registry.scoreBoardTotal(laneId));
+        }
+
+        final int pins;
+        try {
+            pins = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return ERROR + " pins is not a number: " + value;
+        }
+
+        final int status = this.registry.tryRecordPoints(laneId, pins);
+        if (status != RollStatus.OK && status != RollStatus.GAME_COMPLETE) {
+            return REJECTED + " " + RollStatus.getMessage(status);
+        }
+        return Integer.toString(this.registry.scoreBoardTotal(laneId));
+    }
+
+    private static void reply(final ByteBuffer out, final String reply) {
+        final byte[] bytes = reply.getBytes(StandardCharsets.US_ASCII);
+        out.put(bytes, 0, Math.min(bytes.length, MAX_REPLY_LENGTH - 1));
+        out.put((byte) '\n');
+    }
+
+    private static void flush(final SocketChannel channel, final Connection connection) throws IOException {
+        connection.out.flip();
+        channel.write(connection.out);
+        connection.out.compact();
+    }
+
+    private static void closeConnection(final SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // nothing more to do for a connection that is going away
+        }
+    }
+
+    private static final class Connection {
+        private final ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+        private boolean closing;
+        // set when replies filled the output buffer before all complete request lines were handled
+        private boolean stalled;
+    }
+}
@@ -0,0 +1,63 @@
+package com.marchex.bowling.stats;
+
+import com.google.common.base.Preconditions;
+
+import java.time.LocalDate;
+
+/**
+ * Which games of a {@link SeasonStats} a query covers, by bowler and by date. Filters are immutable.
+ */
+public final class GameFilter {
+    static final int ANY_BOWLER = -1;
+
+    private static final GameFilter ALL = new GameFilter(ANY_BOWLER, Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final int bowlerId;
+    private final long fromDay;
+    private final long toDay;
+
+    private GameFilter(final int bowlerId, final long fromDay, final long toDay) {
+        this.bowlerId = bowlerId;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+    }
+
+    /**
+     * @return a filter covering every game
+     */
+    public static GameFilter all() {
+        return ALL;
+    }
+
+    /**
+     * @return a filter covering the games of a bowler
+     */
+    public static GameFilter bowler(final int bowlerId) {
+        Preconditions.checkArgument(bowlerId >= 0, "bowlerId can't be negative");
+
+        return new GameFilter(bowlerId, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param from first day covered
+     * @param to   last day covered
+     * @return a filter covering the games of this filter played between the two days
+     */
+    public GameFilter between(final LocalDate from, final LocalDate to) {
+        Preconditions.checkArgument(!to.isBefore(from), "to can't be before from");
+
+        return new GameFilter(this.bowlerId, from.toEpochDay(), to.toEpochDay());
+    }
+
+    int getBowlerId() {
+        return this.bowlerId;
+    }
+
+    long getFromDay() {
+        return this.fromDay;
+    }
+
+    long getToDay() {
+        return this.toDay;
+    }
+}
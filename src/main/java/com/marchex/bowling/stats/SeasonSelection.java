@@ -0,0 +1,149 @@
+package com.marchex.bowling.stats;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The games of a {@link SeasonStats} picked by a {@link GameFilter}, and the statistics over them. Every statistic is
+ * one pass over the columns it needs, multiplying each value by the 0 or 1 of the game in the selection mask instead
+ * of branching on it, so the loops have no data dependent branches.
+ */
+public final class SeasonSelection {
+    // rows summed into an int at a time, 300 points per game can't overflow
+    private static final int BLOCK_SIZE = 1 << 22;
+
+    private final SeasonStats stats;
+    private final int[] mask;
+    private final int count;
+
+    SeasonSelection(final SeasonStats stats, final int[] mask, final int count) {
+        this.stats = stats;
+        this.mask = mask;
+        this.count = count;
+    }
+
+    /**
+     * @return number of games selected
+     */
+    public int getGameCount() {
+        return this.count;
+    }
+
+    /**
+     * @return the average total of the games, 0 when no game is selected
+     */
+    public double average() {
+        return ratio(sum(this.stats.totals), this.count);
+    }
+
+    /**
+     * @return the share of the frames of the games that are strikes
+     */
+    public double strikeRate() {
+        return ratio(sum(this.stats.strikeCounts), (long) this.count * SeasonStats.NUMBER_OF_FRAMES);
+    }
+
+    /**
+     * @return the share of the frames of the games that are spares
+     */
+    public double spareRate() {
+        return ratio(sum(this.stats.spareCounts), (long) this.count * SeasonStats.NUMBER_OF_FRAMES);
+    }
+
+    /**
+     * @param frameId the frame, between 0 and 9
+     * @return the share of the frame that are strikes
+     */
+    public double strikeRate(final int frameId) {
+        checkFrameId(frameId);
+
+        final byte[] strikes = this.stats.strikes[frameId];
+        final int[] mask = this.mask;
+        long sum = 0;
+        for (int row = 0; row < mask.length; row++) {
+            sum += strikes[row] & mask[row];
+        }
+        return ratio(sum, this.count);
+    }
+
+    /**
+     * @param frameId the frame, between 0 and 9
+     * @return the number of first balls of the frame that knocked down 0 to 10 pins, indexed by the pins
+     */
+    public long[] firstBallPinFall(final int frameId) {
+        checkFrameId(frameId);
+
+        final byte[] firstBalls = this.stats.firstBalls[frameId];
+        final int[] mask = this.mask;
+        final long[] pinFall = new long[SeasonStats.ALL_PINS + 1];
+        for (int row = 0; row < mask.length; row++) {
+            pinFall[firstBalls[row]] += mask[row];
+        }
+        return pinFall;
+    }
+
+    /**
+     * Returns the share of the frames with pins left standing by the first ball where the second ball knocked them
+     * all down, i.e. the frames that are spares, see {@link SeasonStats#add(int, java.time.LocalDate,
+     * com.marchex.bowling.ScoreBoard)}.
+     *
+     * @param frameId the frame, between 0 and 9
+     * @return the spare conversion rate of the frame, 0 when no first ball left pins standing
+     */
+    public double conversionRate(final int frameId) {
+        checkFrameId(frameId);
+
+        final byte[] firstBalls = this.stats.firstBalls[frameId];
+        final byte[] secondBalls = this.stats.secondBalls[frameId];
+        final int[] mask = this.mask;
+        long chances = 0;
+        long conversions = 0;
+        for (int row = 0; row < mask.length; row++) {
+            final int chance = (firstBalls[row] < SeasonStats.ALL_PINS ? 1 : 0) & mask[row];
+            chances += chance;
+            conversions += chance & (firstBalls[row] + secondBalls[row] == SeasonStats.ALL_PINS ? 1 : 0);
+        }
+        return ratio(conversions, chances);
+    }
+
+    /**
+     * @param frameId the frame, between 0 and 9
+     * @return the average running total of the games at the end of the frame
+     */
+    public double averageCumulativeScore(final int frameId) {
+        checkFrameId(frameId);
+
+        final short[] cumulativeScores = this.stats.cumulativeScores[frameId];
+        final int[] mask = this.mask;
+        long sum = 0;
+        for (int row = 0; row < mask.length; row++) {
+            sum += cumulativeScores[row] * mask[row];
+        }
+        return ratio(sum, this.count);
+    }
+
+    /**
+     * @return the sum of a game column over the selected games, added up in int blocks that vectorize
+     */
+    private long sum(final int[] column) {
+        final int[] mask = this.mask;
+        long sum = 0;
+        for (int start = 0; start < mask.length; start += BLOCK_SIZE) {
+            final int end = Math.min(mask.length, start + BLOCK_SIZE);
+            int blockSum = 0;
+            for (int row = start; row < end; row++) {
+                blockSum += column[row] * mask[row];
+            }
+            sum += blockSum;
+        }
+        return sum;
+    }
+
+    private static double ratio(final long numerator, final long denominator) {
+        return denominator == 0 ? 0 : numerator / (double) denominator;
+    }
+
+    private static void checkFrameId(final int frameId) {
+        Preconditions.checkArgument(frameId >= 0 && frameId < SeasonStats.NUMBER_OF_FRAMES,
+                "Valid FrameID is between 0 and 9.");
+    }
+}
@@ -0,0 +1,168 @@
+package com.marchex.bowling.stats;
+
+import com.google.common.base.Preconditions;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardSnapshot;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * The completed games of a season, stored as primitive columns rather than as score boards, for statistics over
+ * millions of games.
+ * <p>
+ * Games have a row each in the game columns (bowler, day, total, number of strikes and spares). The frame columns
+ * (balls, strike and spare flags, running totals) are stored frame by frame, so the values of one frame across all the
+ * games are next to each other. Queries work on a {@link SeasonSelection}, a 0 or 1 mask over the game rows, and
+ * aggregate with branch free loops over whole columns. The game columns and the mask are ints, as the JIT compiler
+ * turns int loops into vector instructions but not loops mixing bytes and ints.
+ * <p>
+ * Adding games is not thread safe. Selections can be queried from several threads once the games are added.
+ */
+public class SeasonStats {
+    static final int NUMBER_OF_FRAMES = 10;
+    static final int LAST_FRAME_NUMBER = NUMBER_OF_FRAMES - 1;
+    static final int ALL_PINS = 10;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int size;
+
+    // game columns
+    int[] bowlerIds;
+    int[] days;
+    int[] totals;
+    int[] strikeCounts;
+    int[] spareCounts;
+
+    // frame columns, indexed by frame and then by game
+    final byte[][] firstBalls;
+    final byte[][] secondBalls;
+    byte[] thirdBalls;
+    final byte[][] strikes;
+    final byte[][] spares;
+    final short[][] cumulativeScores;
+
+    public SeasonStats() {
+        this.bowlerIds = new int[INITIAL_CAPACITY];
+        this.days = new int[INITIAL_CAPACITY];
+        this.totals = new int[INITIAL_CAPACITY];
+        this.strikeCounts = new int[INITIAL_CAPACITY];
+        this.spareCounts = new int[INITIAL_CAPACITY];
+        this.firstBalls = new byte[NUMBER_OF_FRAMES][INITIAL_CAPACITY];
+        this.secondBalls = new byte[NUMBER_OF_FRAMES][INITIAL_CAPACITY];
+        this.thirdBalls = new byte[INITIAL_CAPACITY];
+        this.strikes = new byte[NUMBER_OF_FRAMES][INITIAL_CAPACITY];
+        this.spares = new byte[NUMBER_OF_FRAMES][INITIAL_CAPACITY];
+        this.cumulativeScores = new short[NUMBER_OF_FRAMES][INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a completed game. A frame is a strike when its first ball knocks all the pins down, and a spare when its
+     * first two balls do, as counted by {@link com.marchex.bowling.metrics.ScoringMetrics}. Unlike
+     * {@link com.marchex.bowling.Frame#isStrike()} and {@link com.marchex.bowling.Frame#isSpare()}, the 10th frame
+     * follows the same rule, so no frame is both a strike and a spare.
+     *
+     * @param bowlerId the bowler of the game
+     * @param day      the day the game was played
+     * @param board    the completed game
+     */
+    public void add(final int bowlerId, final LocalDate day, final ScoreBoard board) {
+        Preconditions.checkArgument(bowlerId >= 0, "bowlerId can't be negative");
+        Preconditions.checkNotNull(day, "day");
+        Preconditions.checkArgument(board.isComplete(), "Only completed games can be added");
+
+        add(bowlerId, day, board.snapshot());
+    }
+
+    /**
+     * Adds a completed game from a snapshot, see {@link #add(int, LocalDate, ScoreBoard)}.
+     */
+    public void add(final int bowlerId, final LocalDate day, final ScoreBoardSnapshot game) {
+        Preconditions.checkArgument(bowlerId >= 0, "bowlerId can't be negative");
+        Preconditions.checkArgument(game.isComplete(), "Only completed games can be added");
+
+        ensureCapacity(this.size + 1);
+        final int row = this.size;
+        this.bowlerIds[row] = bowlerId;
+        this.days[row] = Math.toIntExact(day.toEpochDay());
+        this.totals[row] = game.scoreBoardTotal();
+        int strikes = 0;
+        int spares = 0;
+
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            final int numBalls = game.getNumBalls(frameId);
+            final int first = game.getBallScore(frameId, 0);
+            final int second = numBalls >= 2 ? game.getBallScore(frameId, 1) : 0;
+            final int third = numBalls >= 3 ? game.getBallScore(frameId, 2) : 0;
+
+            this.firstBalls[frameId][row] = (byte) first;
+            this.secondBalls[frameId][row] = (byte) second;
+            this.cumulativeScores[frameId][row] = (short) game.cumulativeScoreAt(frameId);
+            this.strikes[frameId][row] = (byte) (first == ALL_PINS ? 1 : 0);
+            this.spares[frameId][row] = (byte) (first < ALL_PINS && first + second == ALL_PINS ? 1 : 0);
+            if (frameId == LAST_FRAME_NUMBER) {
+                this.thirdBalls[row] = (byte) third;
+            }
+            strikes += this.strikes[frameId][row];
+            spares += this.spares[frameId][row];
+        }
+        this.strikeCounts[row] = strikes;
+        this.spareCounts[row] = spares;
+        this.size++;
+    }
+
+    /**
+     * @return number of games
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Marks the games a filter covers, in one pass over the bowler and day columns.
+     *
+     * @return the games of the filter, as of now: games added later are not part of the selection
+     */
+    public SeasonSelection select(final GameFilter filter) {
+        Preconditions.checkNotNull(filter, "filter");
+
+        final int size = this.size;
+        final int[] mask = new int[size];
+        final int bowlerId = filter.getBowlerId();
+        final long fromDay = filter.getFromDay();
+        final long toDay = filter.getToDay();
+        final int[] bowlerIds = this.bowlerIds;
+        final int[] days = this.days;
+
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            final int selected = (bowlerId == GameFilter.ANY_BOWLER || bowlerIds[row] == bowlerId)
+                    & days[row] >= fromDay & days[row] <= toDay ? 1 : 0;
+            mask[row] = selected;
+            count += selected;
+        }
+        return new SeasonSelection(this, mask, count);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= this.bowlerIds.length) {
+            return;
+        }
+
+        final int newCapacity = Math.max(capacity, this.bowlerIds.length * 2);
+        this.bowlerIds = Arrays.copyOf(this.bowlerIds, newCapacity);
+        this.days = Arrays.copyOf(this.days, newCapacity);
+        this.totals = Arrays.copyOf(this.totals, newCapacity);
+        this.strikeCounts = Arrays.copyOf(this.strikeCounts, newCapacity);
+        this.spareCounts = Arrays.copyOf(this.spareCounts, newCapacity);
+        this.thirdBalls = Arrays.copyOf(this.thirdBalls, newCapacity);
+        for (int frameId = 0; frameId < NUMBER_OF_FRAMES; frameId++) {
+            this.firstBalls[frameId] = Arrays.copyOf(this.firstBalls[frameId], newCapacity);
+            this.secondBalls[frameId] = Arrays.copyOf(this.secondBalls[frameId], newCapacity);
+            this.strikes[frameId] = Arrays.copyOf(this.strikes[frameId], newCapacity);
+            this.spares[frameId] = Arrays.copyOf(this.spares[frameId], newCapacity);
+            this.cumulativeScores[frameId] = Arrays.copyOf(this.cumulativeScores[frameId], newCapacity);
+        }
+    }
+}
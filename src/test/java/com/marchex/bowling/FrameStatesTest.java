@@ -0,0 +1,54 @@
+package com.marchex.bowling;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class FrameStatesTest {
+
+    @Test
+    public void testNext_regularFrame() throws Exception {
+        for (int first = 0; first <= 10; first++) {
+            final int afterFirst = FrameStates.next(FrameStates.initialState(0), first);
+            assertThat(FrameStates.isFinished(afterFirst)).as("Only a strike finishes after one ball").isEqualTo(first == 10);
+
+            for (int second = 0; second <= 10; second++) {
+                final int afterSecond = FrameStates.next(afterFirst, second);
+                if (first == 10) {
+                    assertThat(afterSecond).isEqualTo(FrameStates.FRAME_IS_FULL);
+                } else if (first + second > 10) {
+                    assertThat(afterSecond).isEqualTo(FrameStates.INVALID_SCORE);
+                } else {
+                    assertThat(FrameStates.isFinished(afterSecond)).isTrue();
+                    assertThat(FrameStates.next(afterSecond, 0)).isEqualTo(FrameStates.FRAME_IS_FULL);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNext_lastFrame() throws Exception {
+        for (int first = 0; first <= 10; first++) {
+            final int afterFirst = FrameStates.next(FrameStates.initialState(9), first);
+            assertThat(FrameStates.isFinished(afterFirst)).isFalse();
+
+            for (int second = 0; second <= 10; second++) {
+                final int afterSecond = FrameStates.next(afterFirst, second);
+                final boolean strikeOrSpare = first == 10 || second == 10 || first + second >= 10;
+                assertThat(FrameStates.isFinished(afterSecond))
+                        .as("Balls %d and %d", first, second)
+                        .isEqualTo(!strikeOrSpare);
+
+                if (strikeOrSpare) {
+                    for (int third = 0; third <= 10; third++) {
+                        final int afterThird = FrameStates.next(afterSecond, third);
+                        assertThat(FrameStates.isFinished(afterThird)).isTrue();
+                        assertThat(FrameStates.next(afterThird, 0)).isEqualTo(FrameStates.FRAME_IS_FULL);
+                    }
+                } else {
+                    assertThat(FrameStates.next(afterSecond, 0)).isEqualTo(FrameStates.FRAME_IS_FULL);
+                }
+            }
+        }
+    }
+}
@@ -95,6 +95,27 @@ public class FrameTest {
                 .isInstanceOf(InvalidScoreException.class);
     }
 
+    @Test
+    public void testReset_shouldClearFrame() throws Exception {
+        final Frame frame = new Frame(9);
+        frame.recordScore(10);
+        frame.recordScore(10);
+        frame.recordScore(10);
+        assertThat(frame.hasFinished()).isTrue();
+
+        frame.reset();
+        assertThat(frame.getFrameId()).isEqualTo(9);
+        assertThat(frame.getNumBalls()).isEqualTo(0);
+        assertThat(frame.hasFinished()).isFalse();
+        assertThat(frame.isStrike()).isFalse();
+        assertThat(frame.getFrameScore()).isEmpty();
+
+        frame.recordScore(3);
+        frame.recordScore(4);
+        assertThat(frame.hasFinished()).as("An open last frame only gets 2 balls").isTrue();
+        assertThat(frame.getFrameScore()).isEqualTo(Optional.of(7));
+    }
+
     @Test
     public void testRecordScoreLastFrame_shouldSucceed() throws Exception {
         // There is no strike or spare in the first 2 balls of the last frame which should end the frame
@@ -0,0 +1,94 @@
+package com.marchex.bowling;
+
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class GameScorerTest {
+    private static final Random intGenerator = new Random(20161017L);
+
+    @Test
+    public void testScoreGame_shouldScoreCompleteGames() throws Exception {
+        assertThat(GameScorer.scoreGame(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10}, 0, 12))
+                .as("Perfect game").isEqualTo(300);
+        assertThat(GameScorer.scoreGame(new int[20], 0, 20)).as("Gutter game").isEqualTo(0);
+
+        final int[] rolls = {4, 5, 1, 9, 3, 4, 10, 10, 6, 4, 10, 7, 1, 10, 10, 10, 6};
+        final int[] cumulativeScores = new int[10];
+        assertThat(GameScorer.scoreGame(rolls, 0, rolls.length, cumulativeScores)).isEqualTo(177);
+        assertThat(cumulativeScores).containsExactly(9, 22, 29, 55, 75, 95, 113, 121, 151, 177);
+    }
+
+    @Test
+    public void testScoreGame_shouldUseOffsetAndLength() throws Exception {
+        final int[] rolls = {7, 7, 3, 7, 2, 7};
+
+        assertThat(GameScorer.scoreGame(rolls, 2, 3)).as("Spare scored with the next ball").isEqualTo(12);
+    }
+
+    @Test
+    public void testScoreGame_shouldFailWithInvalidScores() throws Exception {
+        assertThatThrownBy(() -> GameScorer.scoreGame(new int[]{5, 6}, 0, 2))
+                .isInstanceOf(InvalidScoreException.class);
+        assertThatThrownBy(() -> GameScorer.scoreGame(new int[]{5, 11}, 0, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testScoreGame_shouldMatchScoreBoard() throws Exception {
+        final int[] cumulativeScores = new int[10];
+
+        for (int game = 0; game < 2000; game++) {
+            final int[] rolls = randomRolls(game % 4 == 0 ? 12 : 11);
+
+            for (int length = 0; length <= rolls.length; length++) {
+                final ScoreBoard board = new ScoreBoard();
+                Exception boardException = null;
+                try {
+                    for (int i = 0; i < length; i++) {
+                        board.recordPoints(rolls[i]);
+                    }
+                } catch (Exception e) {
+                    boardException = e;
+                }
+
+                if (boardException != null) {
+                    final Class<? extends Exception> expected = boardException.getClass();
+                    final int rollCount = length;
+                    assertThatThrownBy(() -> GameScorer.scoreGame(rolls, 0, rollCount))
+                            .as("Same rejection as the score board")
+                            .isInstanceOf(expected)
+                            .hasMessage(boardException.getMessage());
+                    break;
+                }
+
+                assertThat(GameScorer.scoreGame(rolls, 0, length, cumulativeScores))
+                        .as("Total after %d rolls", length)
+                        .isEqualTo(board.scoreBoardTotal());
+                for (int frameId = 0; frameId < 10; frameId++) {
+                    assertThat(cumulativeScores[frameId])
+                            .as("Running total of frame %d after %d rolls", frameId, length)
+                            .isEqualTo(board.cumulativeScoreAt(frameId));
+                }
+            }
+        }
+    }
+
+    /**
+     * Mostly legal games with the odd roll that overflows a frame or is out of range.
+     */
+    private static int[] randomRolls(final int maxScore) {
+        final int[] rolls = new int[24];
+        int pinsStanding = 10;
+        for (int i = 0; i < rolls.length; i++) {
+            final int roll = intGenerator.nextInt(50) == 0 ? intGenerator.nextInt(maxScore) : intGenerator.nextInt(pinsStanding + 1);
+            rolls[i] = roll;
+            pinsStanding = pinsStanding == 10 && roll < 10 ? 10 - roll : 10;
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,91 @@
+package com.marchex.bowling;
+
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class LaneSessionTest {
+    private static final Random intGenerator = new Random(20161018L);
+
+    @Test
+    public void testRecordPoints_shouldFollowTurnOrder() throws Exception {
+        final LaneSession session = new LaneSession(2);
+
+        session.recordPoints(0, 10);
+        assertThat(session.getCurrentPlayer()).as("A strike finishes the frame").isEqualTo(1);
+
+        session.recordPoints(1, 3);
+        assertThat(session.getCurrentPlayer()).as("Player 1 still has a ball to play").isEqualTo(1);
+        assertThatThrownBy(() -> session.recordPoints(0, 4))
+                .as("Player 0 cannot roll out of turn")
+                .isInstanceOf(IllegalStateException.class);
+
+        session.recordPoints(1, 4);
+        assertThat(session.getCurrentPlayer()).isEqualTo(0);
+        assertThat(session.getCurrentFrameId(0)).isEqualTo(1);
+        assertThat(session.getCurrentFrameId(1)).isEqualTo(1);
+        assertThat(session.scoreBoardTotal(1)).isEqualTo(7);
+        assertThat(session.getNumBalls(1, 0)).isEqualTo(2);
+        assertThat(session.getBallScore(1, 0, 1)).isEqualTo(4);
+        assertThat(session.getBallScore(1, 1, 0)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+    }
+
+    @Test
+    public void testRecordPoints_shouldRejectInvalidScores() throws Exception {
+        final LaneSession session = new LaneSession(3);
+
+        session.recordPoints(6);
+        assertThatThrownBy(() -> session.recordPoints(5)).isInstanceOf(InvalidScoreException.class);
+        assertThatThrownBy(() -> session.recordPoints(11)).isInstanceOf(IllegalArgumentException.class);
+
+        session.recordPoints(4);
+        assertThat(session.getNumBalls(0, 0)).as("The rejected rolls are not recorded").isEqualTo(2);
+        assertThat(session.getBallScore(0, 0, 1)).isEqualTo(4);
+        assertThat(session.getCurrentPlayer()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRecordPoints_shouldMatchScoreBoards() throws Exception {
+        for (int game = 0; game < 200; game++) {
+            final int numPlayers = 1 + intGenerator.nextInt(6);
+            final LaneSession session = new LaneSession(numPlayers);
+            final ScoreBoard[] boards = new ScoreBoard[numPlayers];
+            for (int i = 0; i < numPlayers; i++) {
+                boards[i] = new ScoreBoard();
+            }
+
+            while (!session.isComplete()) {
+                final int player = session.getCurrentPlayer();
+                final ScoreBoard board = boards[player];
+                final Frame frame = board.getFrames().get(board.getCurrentFrameId());
+                final int points = nextRoll(frame);
+
+                board.recordPoints(points);
+                session.recordPoints(player, points);
+
+                assertThat(session.scoreBoardTotal(player)).isEqualTo(board.scoreBoardTotal());
+                assertThat(session.getCurrentFrameId(player)).isEqualTo(board.getCurrentFrameId());
+                assertThat(session.isComplete(player)).isEqualTo(board.isComplete());
+                for (int frameId = 0; frameId < 10; frameId++) {
+                    final Frame boardFrame = board.getFrames().get(frameId);
+                    assertThat(session.cumulativeScoreAt(player, frameId)).isEqualTo(board.cumulativeScoreAt(frameId));
+                    assertThat(session.getNumBalls(player, frameId)).isEqualTo(boardFrame.getNumBalls());
+                    assertThat(session.getBallScore(player, frameId, 0)).isEqualTo(boardFrame.getFirstBallScoreValue());
+                }
+            }
+
+            for (final ScoreBoard board : boards) {
+                assertThat(board.isComplete()).as("Every player has finished with the session").isTrue();
+            }
+        }
+    }
+
+    private static int nextRoll(final Frame frame) {
+        final int standing = frame.getNumBalls() == 1 && frame.getFrameId() < 9 ? 10 - frame.getFirstBallScoreValue() : 10;
+        return intGenerator.nextInt(standing + 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.marchex.bowling;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class LiveScoreBoardTest {
+
+    @Test
+    public void testGetSnapshot_shouldNotChangeAfterMoreRolls() throws Exception {
+        final LiveScoreBoard board = new LiveScoreBoard();
+        final ScoreBoardSnapshot empty = board.getSnapshot();
+        assertThat(empty.getNumRolls()).isEqualTo(0);
+        assertThat(empty.scoreBoardTotal()).isEqualTo(0);
+
+        board.recordPoints(10);
+        board.recordPoints(3);
+        final ScoreBoardSnapshot afterTwoRolls = board.getSnapshot();
+        board.recordPoints(4);
+
+        assertThat(afterTwoRolls.getNumRolls()).isEqualTo(2);
+        assertThat(afterTwoRolls.getCurrentFrameId()).isEqualTo(1);
+        assertThat(afterTwoRolls.getNumBalls(1)).isEqualTo(1);
+        assertThat(afterTwoRolls.getBallScore(1, 1)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+        assertThat(afterTwoRolls.scoreBoardTotal()).isEqualTo(13);
+
+        final ScoreBoardSnapshot latest = board.getSnapshot();
+        assertThat(latest.scoreBoardTotal()).isEqualTo(24);
+        assertThat(latest.cumulativeScoreAt(0)).isEqualTo(17);
+        assertThat(latest.cumulativeScoreAt(1)).isEqualTo(24);
+        assertThat(latest.getBallScore(1, 1)).isEqualTo(4);
+        assertThat(empty.getNumRolls()).as("Older snapshots are left untouched").isEqualTo(0);
+    }
+
+    @Test
+    public void testGetSnapshot_shouldBeConsistentWhileRolling() throws Exception {
+        final AtomicReference<LiveScoreBoard> board = new AtomicReference<>(new LiveScoreBoard());
+        final AtomicBoolean rolling = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // every snapshot seen by the display thread must score the same as its own rolls
+            final Future<Integer> display = executor.submit(() -> {
+                int checked = 0;
+                while (rolling.get()) {
+                    final ScoreBoardSnapshot snapshot = board.get().getSnapshot();
+                    final int[] rolls = new int[snapshot.getNumRolls()];
+                    for (int i = 0; i < rolls.length; i++) {
+                        rolls[i] = snapshot.getRoll(i);
+                    }
+                    if (GameScorer.scoreGame(rolls, 0, rolls.length) != snapshot.scoreBoardTotal()) {
+                        return -1;
+                    }
+                    checked++;
+                }
+                return checked;
+            });
+
+            final Random random = new Random(7L);
+            for (int game = 0; game < 20000; game++) {
+                final LiveScoreBoard live = new LiveScoreBoard();
+                board.set(live);
+                int standing = 10;
+                while (!live.getSnapshot().isComplete()) {
+                    final int points = random.nextInt(standing + 1);
+                    live.recordPoints(points);
+                    final ScoreBoardSnapshot snapshot = live.getSnapshot();
+                    final int frameId = snapshot.getCurrentFrameId();
+                    standing = frameId < 9 && snapshot.getNumBalls(frameId) == 1
+                            ? 10 - snapshot.getBallScore(frameId, 0) : 10;
+                }
+            }
+            rolling.set(false);
+
+            assertThat(display.get(30, TimeUnit.SECONDS)).as("Display thread only saw consistent snapshots")
+                    .isGreaterThanOrEqualTo(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
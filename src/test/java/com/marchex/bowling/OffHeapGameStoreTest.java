@@ -0,0 +1,87 @@
+package com.marchex.bowling;
+
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class OffHeapGameStoreTest {
+    private static final Random intGenerator = new Random(20161017L);
+
+    @Test
+    public void testTryRecordPoints_shouldMatchScoreBoard() {
+        final OffHeapGameStore store = new OffHeapGameStore(4);
+        final OffHeapScoreBoard offHeap = store.board(store.allocate());
+
+        for (int game = 0; game < 2000; game++) {
+            final ScoreBoard board = new ScoreBoard();
+            offHeap.reset();
+
+            while (!board.isComplete()) {
+                // mostly valid rolls, with some that overflow the frame or are out of range
+                final int points = intGenerator.nextInt(13) - 1;
+                assertThat(offHeap.tryRecordPoints(points)).isEqualTo(board.tryRecordPoints(points));
+                assertSameGame(offHeap, board);
+            }
+            assertThat(offHeap.tryRecordPoints(5)).isEqualTo(RollStatus.GAME_COMPLETE);
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldThrowLikeScoreBoard() throws Exception {
+        final OffHeapGameStore store = new OffHeapGameStore(1);
+        final OffHeapScoreBoard board = store.board(store.allocate());
+        board.recordPoints(7);
+
+        assertThatThrownBy(() -> board.recordPoints(4)).isInstanceOf(InvalidScoreException.class);
+        assertThat(board.getNumRolls()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRelease_shouldReuseTheSlotForANewGame() throws Exception {
+        final OffHeapGameStore store = new OffHeapGameStore(2);
+        final int first = store.allocate();
+        final int second = store.allocate();
+        final OffHeapScoreBoard board = store.board(first);
+        for (int i = 0; i < 12; i++) {
+            board.recordPoints(10);
+        }
+        assertThat(board.scoreBoardTotal()).isEqualTo(300);
+        assertThatThrownBy(store::allocate).isInstanceOf(IllegalStateException.class);
+
+        store.release(first);
+        assertThatThrownBy(() -> board.moveTo(first)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> store.release(first)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.allocate()).isEqualTo(first);
+        board.moveTo(first);
+        assertThat(board.getNumRolls()).isEqualTo(0);
+        assertThat(board.getCurrentFrameId()).isEqualTo(0);
+        assertThat(board.scoreBoardTotal()).isEqualTo(0);
+        assertThat(board.cumulativeScoreAt(0)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.board(second).getNumRolls()).isEqualTo(0);
+    }
+
+    private static void assertSameGame(final OffHeapScoreBoard offHeap, final ScoreBoard board) {
+        assertThat(offHeap.getNumRolls()).isEqualTo(board.getNumRolls());
+        assertThat(offHeap.getCurrentFrameId()).isEqualTo(board.getCurrentFrameId());
+        assertThat(offHeap.isComplete()).isEqualTo(board.isComplete());
+        assertThat(offHeap.scoreBoardTotal()).isEqualTo(board.scoreBoardTotal());
+        for (int frameId = 0; frameId < 10; frameId++) {
+            assertThat(offHeap.cumulativeScoreAt(frameId)).isEqualTo(board.cumulativeScoreAt(frameId));
+        }
+
+        final ScoreBoardSnapshot expected = board.snapshot();
+        final ScoreBoardSnapshot actual = offHeap.snapshot();
+        for (int frameId = 0; frameId < 10; frameId++) {
+            assertThat(actual.getNumBalls(frameId)).isEqualTo(expected.getNumBalls(frameId));
+            for (int ball = 0; ball < expected.getNumBalls(frameId); ball++) {
+                assertThat(actual.getBallScore(frameId, ball)).isEqualTo(expected.getBallScore(frameId, ball));
+            }
+        }
+    }
+}
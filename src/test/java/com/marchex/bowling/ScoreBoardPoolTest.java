@@ -0,0 +1,92 @@
+package com.marchex.bowling;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class ScoreBoardPoolTest {
+    private static final int NUM_WORKERS = 4;
+    private static final int GAMES_PER_WORKER = 500;
+
+    @Test
+    public void testAcquire_shouldReuseReleasedBoards() throws Exception {
+        final ScoreBoardPool pool = new ScoreBoardPool(4, 1);
+
+        final ScoreBoard board = pool.acquire();
+        board.recordPoints(10);
+        board.recordPoints(4);
+        pool.release(board);
+
+        final ScoreBoard reused = pool.acquire();
+        assertThat(reused).as("The thread cache hands back the last released board").isSameAs(board);
+        assertThat(reused.scoreBoardTotal()).isEqualTo(0);
+        assertThat(reused.getCurrentFrameId()).isEqualTo(0);
+        assertThat(reused.getFrames().get(0).getNumBalls()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRelease_shouldBeBounded() throws Exception {
+        final ScoreBoardPool pool = new ScoreBoardPool(2, 1);
+
+        final List<ScoreBoard> boards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            boards.add(pool.acquire());
+        }
+        for (final ScoreBoard board : boards) {
+            pool.release(board);
+        }
+
+        assertThat(pool.sharedSize()).as("One board is cached by the thread and the rest is dropped").isEqualTo(2);
+        assertThatThrownBy(() -> new ScoreBoardPool(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAcquire_shouldNotShareBoardsBetweenThreads() throws Exception {
+        final ScoreBoardPool pool = new ScoreBoardPool(8, 2);
+        final Map<ScoreBoard, Boolean> inUse = new IdentityHashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_WORKERS);
+
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int worker = 0; worker < NUM_WORKERS; worker++) {
+                results.add(executor.submit(() -> {
+                    int total = 0;
+                    for (int game = 0; game < GAMES_PER_WORKER; game++) {
+                        final ScoreBoard board = pool.acquire();
+                        synchronized (inUse) {
+                            assertThat(inUse.put(board, Boolean.TRUE)).as("Board handed out twice").isNull();
+                        }
+                        assertThat(board.scoreBoardTotal()).isEqualTo(0);
+
+                        for (int i = 0; i < 12; i++) {
+                            board.recordPoints(10);
+                        }
+                        total += board.scoreBoardTotal();
+
+                        synchronized (inUse) {
+                            inUse.remove(board);
+                        }
+                        pool.release(board);
+                    }
+                    return total;
+                }));
+            }
+
+            for (final Future<Integer> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo(300 * GAMES_PER_WORKER);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.marchex.bowling;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class ScoreBoardRegistryTest {
+    private static final int NUM_WRITERS = 4;
+    private static final int GAMES_PER_WRITER = 250;
+
+    @Test
+    public void testRecordPoints_shouldTrackGamesById() throws Exception {
+        final ScoreBoardRegistry registry = new ScoreBoardRegistry();
+
+        registry.recordPoints("lane-1", 10);
+        registry.recordPoints("lane-2", 4);
+        registry.recordPoints("lane-1", 3);
+        registry.recordPoints("lane-1", 4);
+
+        assertThat(registry.scoreBoardTotal("lane-1")).isEqualTo(24);
+        assertThat(registry.scoreBoardTotal("lane-2")).isEqualTo(0);
+        assertThat(registry.getGameIds()).containsOnly("lane-1", "lane-2");
+
+        registry.startGame("lane-1");
+        assertThat(registry.scoreBoardTotal("lane-1")).as("A new game starts from scratch").isEqualTo(0);
+
+        assertThat(registry.removeGame("lane-2")).isTrue();
+        assertThatThrownBy(() -> registry.scoreBoardTotal("lane-2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testRecordPoints_shouldBeThreadSafe() throws Exception {
+        final ScoreBoardRegistry registry = new ScoreBoardRegistry();
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_WRITERS + 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+
+        try {
+            final List<Future<int[]>> writers = new ArrayList<>();
+            for (int writer = 0; writer < NUM_WRITERS; writer++) {
+                final int writerId = writer;
+                writers.add(executor.submit(() -> {
+                    final Random random = new Random(writerId);
+                    final int[] expectedTotals = new int[GAMES_PER_WRITER];
+                    start.await();
+
+                    for (int game = 0; game < GAMES_PER_WRITER; game++) {
+                        final ScoreBoard expected = new ScoreBoard();
+                        while (!expected.isComplete()) {
+                            final Frame frame = expected.getFrames().get(expected.getCurrentFrameId());
+                            final int standing = frame.getNumBalls() == 1 && frame.getFrameId() < 9
+                                    ? 10 - frame.getFirstBallScoreValue() : 10;
+                            final int points = random.nextInt(standing + 1);
+
+                            expected.recordPoints(points);
+                            registry.recordPoints(writerId + "-" + game, points);
+                            // every writer also rolls a 1 on a game shared by all of them
+                            registry.recordPoints("shared", 1);
+                        }
+                        expectedTotals[game] = expected.scoreBoardTotal();
+                    }
+                    return expectedTotals;
+                }));
+            }
+
+            // totals only ever grow, so a reader seeing one go down has seen a torn update
+            final Future<Boolean> reader = executor.submit(() -> {
+                final int[] lastSeen = new int[NUM_WRITERS];
+                start.await();
+                while (writing.get()) {
+                    for (int writer = 0; writer < NUM_WRITERS; writer++) {
+                        final String gameId = writer + "-0";
+                        if (registry.contains(gameId)) {
+                            final int total = registry.scoreBoardTotal(gameId);
+                            if (total < lastSeen[writer]) {
+                                return false;
+                            }
+                            lastSeen[writer] = total;
+                        }
+                    }
+                }
+                return true;
+            });
+
+            start.countDown();
+            for (int writer = 0; writer < NUM_WRITERS; writer++) {
+                final int[] expectedTotals = writers.get(writer).get(60, TimeUnit.SECONDS);
+                for (int game = 0; game < GAMES_PER_WRITER; game++) {
+                    final String gameId = writer + "-" + game;
+                    assertThat(registry.isComplete(gameId)).as("Game %s is complete", gameId).isTrue();
+                    assertThat(registry.scoreBoardTotal(gameId)).as("Total of game %s", gameId)
+                            .isEqualTo(expectedTotals[game]);
+                }
+            }
+            writing.set(false);
+
+            assertThat(reader.get(60, TimeUnit.SECONDS)).as("Totals never go backwards").isTrue();
+            assertThat(registry.isComplete("shared")).isTrue();
+            assertThat(registry.scoreBoardTotal("shared")).as("The shared game took exactly 20 rolls of 1").isEqualTo(20);
+            assertThat(registry.size()).isEqualTo(NUM_WRITERS * GAMES_PER_WRITER + 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
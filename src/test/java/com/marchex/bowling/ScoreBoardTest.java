@@ -1,9 +1,15 @@
 package com.marchex.bowling;
 
+import com.marchex.bowling.exceptions.InvalidScoreException;
 import org.junit.Test;
 
-import java.util.LinkedList;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 public class ScoreBoardTest {
@@ -86,7 +92,7 @@ public class ScoreBoardTest {
             board.recordPoints(10);
         }
 
-        final LinkedList<Frame> frames = board.getFrames();
+        final List<Frame> frames = board.getFrames();
         for (int i = 0; i < 9; i++) {
             assertThat(frames.get(i).getScore()).as("Score for frame " + i + " should be 10").isEqualTo(10);
             assertThat(frames.get(i).getFrameScore().get()).as("Score with bonus for frame " + i + " should be 30").isEqualTo(30);
@@ -97,4 +103,488 @@ public class ScoreBoardTest {
 
         assertThat(board.scoreBoardTotal()).as("Total score board for a perfect game is 300").isEqualTo(300);
     }
+
+    @Test
+    public void testGetFrames_shouldBeReadOnly() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        final List<Frame> frames = board.getFrames();
+
+        assertThat(frames).hasSize(10);
+        board.recordPoints(7);
+        assertThat(frames.get(0).getFirstBallScoreValue()).as("The view follows the board").isEqualTo(7);
+        assertThatThrownBy(() -> frames.set(0, new Frame(0)))
+                .as("Frames cannot be replaced through the view")
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testCumulativeScoreAt_shouldFollowFrameScores() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+
+        board.recordPoints(4);
+        board.recordPoints(5);
+        board.recordPoints(1);
+        board.recordPoints(9);
+        assertThat(board.cumulativeScoreAt(0)).isEqualTo(9);
+        assertThat(board.cumulativeScoreAt(1)).as("Spare is not scored yet").isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+
+        board.recordPoints(10);
+        assertThat(board.cumulativeScoreAt(1)).isEqualTo(29);
+        assertThat(board.cumulativeScoreAt(2)).as("Strike is not scored yet").isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+
+        while (!board.isComplete()) {
+            board.recordPoints(3);
+        }
+
+        int runningTotal = 0;
+        for (int i = 0; i < 10; i++) {
+            runningTotal += board.getFrames().get(i).getFrameScoreValue();
+            assertThat(board.cumulativeScoreAt(i)).as("Running total at frame " + i).isEqualTo(runningTotal);
+        }
+        assertThat(board.cumulativeScoreAt(9)).isEqualTo(board.scoreBoardTotal()).isEqualTo(29 + 16 + 6 * 7);
+    }
+
+    @Test
+    public void testRecordPoints_shouldNotAllocateAfterConstruction() throws Exception {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final int[] rolls = {4, 5, 1, 9, 3, 4, 10, 10, 6, 4, 10, 7, 1, 10, 10, 10, 6};
+
+        // warm up so that class loading and the measurement itself don't show up as allocations
+        for (int i = 0; i < 1000; i++) {
+            playGame(new ScoreBoard(), rolls);
+        }
+        threadBean.getThreadAllocatedBytes(threadId);
+
+        final ScoreBoard board = new ScoreBoard();
+        final long overheadBefore = threadBean.getThreadAllocatedBytes(threadId);
+        final long overheadAfter = threadBean.getThreadAllocatedBytes(threadId);
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        playGame(board, rolls);
+        final long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        assertThat(board.isComplete()).isTrue();
+        assertThat(after - before)
+                .as("Recording a full game should not allocate")
+                .isLessThanOrEqualTo(overheadAfter - overheadBefore);
+    }
+
+    @Test
+    public void testTryRecordPoints_shouldReturnStatus() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+
+        assertThat(board.tryRecordPoints(11)).isEqualTo(RollStatus.OUT_OF_RANGE);
+        assertThat(board.tryRecordPoints(-1)).isEqualTo(RollStatus.OUT_OF_RANGE);
+        assertThat(board.tryRecordPoints(6)).isEqualTo(RollStatus.OK);
+        assertThat(board.tryRecordPoints(5)).isEqualTo(RollStatus.OVERFLOW);
+        assertThat(board.tryRecordPoints(3)).isEqualTo(RollStatus.OK);
+        assertThat(board.scoreBoardTotal()).as("Rejected points are not recorded").isEqualTo(9);
+        assertThat(board.getCurrentFrameId()).isEqualTo(1);
+
+        for (int i = 0; i < 12; i++) {
+            board.recordPoints(10);
+        }
+        assertThat(board.isComplete()).isTrue();
+        assertThat(board.tryRecordPoints(3)).isEqualTo(RollStatus.GAME_COMPLETE);
+    }
+
+    @Test
+    public void testRecordPoints_shouldThrowForRejectedStatus() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        board.recordPoints(6);
+
+        assertThatThrownBy(() -> board.recordPoints(5))
+                .isInstanceOf(InvalidScoreException.class)
+                .hasMessage(RollStatus.getMessage(RollStatus.OVERFLOW));
+        assertThatThrownBy(() -> board.recordPoints(11))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(RollStatus.getMessage(RollStatus.OUT_OF_RANGE));
+    }
+
+    @Test
+    public void testTryRecordPoints_shouldNotAllocateWhenRejecting() throws Exception {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final ScoreBoard board = new ScoreBoard();
+        board.recordPoints(6);
+
+        for (int i = 0; i < 1000; i++) {
+            board.tryRecordPoints(5);
+            board.tryRecordPoints(11);
+        }
+        threadBean.getThreadAllocatedBytes(threadId);
+
+        final long overheadBefore = threadBean.getThreadAllocatedBytes(threadId);
+        final long overheadAfter = threadBean.getThreadAllocatedBytes(threadId);
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        int rejected = 0;
+        for (int i = 0; i < 1000; i++) {
+            rejected += board.tryRecordPoints(5) == RollStatus.OVERFLOW ? 1 : 0;
+            rejected += board.tryRecordPoints(11) == RollStatus.OUT_OF_RANGE ? 1 : 0;
+        }
+        final long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        assertThat(rejected).isEqualTo(2000);
+        assertThat(after - before)
+                .as("Rejecting points should not allocate")
+                .isLessThanOrEqualTo(overheadAfter - overheadBefore);
+    }
+
+    @Test
+    public void testReset_shouldBehaveLikeNewScoreBoard() throws Exception {
+        final Random random = new Random(15L);
+        final ScoreBoard reused = new ScoreBoard();
+
+        for (int game = 0; game < 500; game++) {
+            // games are abandoned at a random point so that boards are reset in every state
+            final int numRolls = random.nextInt(25);
+            final ScoreBoard fresh = new ScoreBoard();
+            reused.reset();
+            assertSameState(reused, fresh);
+
+            for (int i = 0; i < numRolls; i++) {
+                final int points = random.nextInt(12);
+                assertThat(reused.tryRecordPoints(points))
+                        .as("Status of %d in game %d", points, game)
+                        .isEqualTo(fresh.tryRecordPoints(points));
+                assertSameState(reused, fresh);
+            }
+        }
+    }
+
+    @Test
+    public void testUndoLastRoll_shouldTakeBackBonuses() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        assertThat(board.undoLastRoll()).as("Nothing to undo").isFalse();
+
+        playGame(board, new int[]{10, 10, 4});
+        assertThat(board.scoreBoardTotal()).isEqualTo(24 + 14);
+
+        assertThat(board.undoLastRoll()).isTrue();
+        assertThat(board.getNumRolls()).isEqualTo(2);
+        assertThat(board.getCurrentFrameId()).isEqualTo(2);
+        assertThat(board.scoreBoardTotal()).as("The strikes are waiting for their bonus again").isEqualTo(0);
+        assertThat(board.cumulativeScoreAt(0)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+
+        assertThat(board.undoLastRoll()).isTrue();
+        assertThat(board.getCurrentFrameId()).as("The undone strike reopens its frame").isEqualTo(1);
+
+        board.recordPoints(3);
+        board.recordPoints(7);
+        board.recordPoints(5);
+        assertThat(board.scoreBoardTotal()).isEqualTo(20 + 15);
+    }
+
+    @Test
+    public void testCorrectRoll_shouldRescoreLaterFrames() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        playGame(board, new int[]{3, 4, 5, 5, 2, 1});
+        assertThat(board.scoreBoardTotal()).isEqualTo(7 + 12 + 3);
+
+        board.correctRoll(0, 10);
+        assertThat(board.getNumRolls()).isEqualTo(6);
+        assertThat(board.getCurrentFrameId()).as("The strike shifts the later rolls by a frame").isEqualTo(3);
+        assertThat(board.scoreBoardTotal()).isEqualTo(19 + 9 + 7);
+
+        assertThatThrownBy(() -> board.correctRoll(1, 7))
+                .as("The 5 that follows the corrected roll blows up its frame")
+                .isInstanceOf(InvalidScoreException.class);
+        assertThat(board.tryCorrectRoll(1, 7)).isEqualTo(RollStatus.OVERFLOW);
+        assertThat(board.scoreBoardTotal()).as("Rejected corrections leave the board unchanged").isEqualTo(35);
+        assertThatThrownBy(() -> board.correctRoll(6, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCorrectRoll_shouldThrowWhenTheGameEndsBeforeTheLaterRolls() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        final int[] rolls = new int[21];
+        rolls[18] = 5;
+        rolls[19] = 5;
+        rolls[20] = 3;
+        playGame(board, rolls);
+
+        assertThatThrownBy(() -> board.correctRoll(19, 4))
+                .as("An open last frame has no room for the third ball")
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(board.tryCorrectRoll(19, 4)).isEqualTo(RollStatus.GAME_COMPLETE);
+        assertThat(board.getNumRolls()).isEqualTo(21);
+        assertThat(board.getFrames().get(9).getBallScoreValue(1)).isEqualTo(5);
+        assertThat(board.scoreBoardTotal()).isEqualTo(13);
+    }
+
+    @Test
+    public void testUndoAndCorrect_shouldMatchReplayingTheRolls() throws Exception {
+        final Random random = new Random(16L);
+
+        for (int game = 0; game < 300; game++) {
+            final ScoreBoard board = new ScoreBoard();
+            final List<Integer> rolls = new ArrayList<>();
+
+            for (int step = 0; step < 60; step++) {
+                final int action = random.nextInt(10);
+                final int points = random.nextInt(11);
+
+                if (action == 0) {
+                    assertThat(board.undoLastRoll()).isEqualTo(!rolls.isEmpty());
+                    if (!rolls.isEmpty()) {
+                        rolls.remove(rolls.size() - 1);
+                    }
+                } else if (action == 1 && !rolls.isEmpty()) {
+                    final int index = random.nextInt(rolls.size());
+                    if (board.tryCorrectRoll(index, points) == RollStatus.OK) {
+                        rolls.set(index, points);
+                    }
+                } else if (board.tryRecordPoints(points) == RollStatus.OK) {
+                    rolls.add(points);
+                }
+
+                final ScoreBoard replayed = new ScoreBoard();
+                for (final int roll : rolls) {
+                    assertThat(replayed.tryRecordPoints(roll)).isEqualTo(RollStatus.OK);
+                }
+                assertThat(board.getNumRolls()).isEqualTo(rolls.size());
+                assertSameState(board, replayed);
+            }
+        }
+    }
+
+    @Test
+    public void testAddListener_shouldReceiveEvents() throws Exception {
+        final List<String> events = new ArrayList<>();
+        final ScoreBoardListener listener = recordingListener(events);
+
+        final ScoreBoard board = new ScoreBoard();
+        board.addListener(listener);
+        playGame(board, new int[]{10, 3, 4});
+        board.tryRecordPoints(11);
+        board.undoLastRoll();
+
+        assertThat(events).containsExactly(
+                "roll 0 10",
+                "finished 0",
+                "roll 1 3",
+                "score 0 13 total 13",
+                "roll 1 4",
+                "score 0 17 total 24",
+                "score 1 7 total 24",
+                "finished 1",
+                "undone 1");
+
+        events.clear();
+        playGame(board, new int[]{4, 10, 10, 10, 10, 10, 10, 10, 10, 2, 3});
+        assertThat(events).endsWith("score 9 15 total 241", "finished 9", "complete 241");
+
+        events.clear();
+        assertThat(board.removeListener(listener)).isTrue();
+        assertThat(board.removeListener(listener)).isFalse();
+        board.undoLastRoll();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void testLazyScoring_shouldMatchEagerScoring() throws Exception {
+        final Random random = new Random(24L);
+
+        for (int game = 0; game < 300; game++) {
+            final ScoreBoard eager = new ScoreBoard();
+            final ScoreBoard lazy = new ScoreBoard(ScoringMode.LAZY);
+
+            for (int step = 0; step < 60; step++) {
+                final int action = random.nextInt(10);
+                final int points = random.nextInt(11);
+
+                if (action == 0) {
+                    assertThat(lazy.undoLastRoll()).isEqualTo(eager.undoLastRoll());
+                } else if (action == 1 && eager.getNumRolls() > 0) {
+                    final int index = random.nextInt(eager.getNumRolls());
+                    assertThat(lazy.tryCorrectRoll(index, points)).isEqualTo(eager.tryCorrectRoll(index, points));
+                } else {
+                    assertThat(lazy.tryRecordPoints(points)).isEqualTo(eager.tryRecordPoints(points));
+                }
+
+                // leave the lazy board unread for a few rolls at a time
+                if (random.nextInt(4) == 0 || eager.isComplete()) {
+                    assertSameScores(lazy, eager);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLazyScoring_shouldFireTheSameEvents() throws Exception {
+        final List<String> eagerEvents = new ArrayList<>();
+        final List<String> lazyEvents = new ArrayList<>();
+        final ScoreBoard eager = new ScoreBoard();
+        final ScoreBoard lazy = new ScoreBoard(ScoringMode.LAZY);
+        eager.addListener(recordingListener(eagerEvents));
+        lazy.addListener(recordingListener(lazyEvents));
+
+        for (final ScoreBoard board : Arrays.asList(eager, lazy)) {
+            playGame(board, new int[]{10, 3, 4, 6, 4, 10, 10});
+            board.undoLastRoll();
+            playGame(board, new int[]{9, 0, 10, 10, 10, 7, 3, 10, 10, 2});
+            board.correctRoll(3, 5);
+        }
+
+        assertThat(lazyEvents).isEqualTo(eagerEvents);
+        assertThat(lazy.scoreBoardTotal()).isEqualTo(eager.scoreBoardTotal());
+    }
+
+    @Test
+    public void testMaxAndMinScore_shouldMatchEnumeratingTheRestOfTheGame() throws Exception {
+        final Random random = new Random(20L);
+        final int[] bounds = new int[2];
+
+        for (int game = 0; game < 40; game++) {
+            // play into frame 7, 8 or 9, so that the rest of the game can be enumerated
+            final ScoreBoard board = new ScoreBoard();
+            final int stopFrame = 7 + random.nextInt(3);
+            final int extraBalls = random.nextInt(3);
+            int balls = 0;
+            while (!board.isComplete() && (board.getCurrentFrameId() < stopFrame || balls++ < extraBalls)) {
+                final Frame frame = board.getFrames().get(board.getCurrentFrameId());
+                final int standing = frame.getNumBalls() == 1 && board.getCurrentFrameId() < 9
+                        ? 10 - frame.getFirstBallScoreValue()
+                        : 10;
+                board.recordPoints(random.nextInt(3) == 0 ? standing : random.nextInt(standing + 1));
+            }
+
+            bounds[0] = Integer.MIN_VALUE;
+            bounds[1] = Integer.MAX_VALUE;
+            enumerate(board, bounds);
+            assertThat(board.maxPossibleScore()).as("Max of game %d", game).isEqualTo(bounds[0]);
+            assertThat(board.minGuaranteedScore()).as("Min of game %d", game).isEqualTo(bounds[1]);
+        }
+    }
+
+    @Test
+    public void testMaxAndMinScore_shouldMatchPlayingStrikesAndGutterBalls() throws Exception {
+        final Random random = new Random(21L);
+
+        for (int game = 0; game < 300; game++) {
+            final List<Integer> rolls = new ArrayList<>();
+            final ScoreBoard board = new ScoreBoard();
+            assertThat(board.maxPossibleScore()).isEqualTo(300);
+            assertThat(board.minGuaranteedScore()).isEqualTo(0);
+
+            while (!board.isComplete()) {
+                final int points = random.nextInt(11);
+                if (board.tryRecordPoints(points) != RollStatus.OK) {
+                    continue;
+                }
+                rolls.add(points);
+
+                assertThat(board.maxPossibleScore()).as("Max after %s", rolls).isEqualTo(playOut(rolls, true));
+                assertThat(board.minGuaranteedScore()).as("Min after %s", rolls).isEqualTo(playOut(rolls, false));
+            }
+            assertThat(board.maxPossibleScore()).isEqualTo(board.scoreBoardTotal());
+        }
+    }
+
+    /**
+     * @return a listener adding every event it receives to events
+     */
+    private static ScoreBoardListener recordingListener(final List<String> events) {
+        return new ScoreBoardListener() {
+            @Override
+            public void rollRecorded(final ScoreBoard board, final int frameId, final int points) {
+                events.add("roll " + frameId + " " + points);
+            }
+
+            @Override
+            public void frameFinished(final ScoreBoard board, final int frameId) {
+                events.add("finished " + frameId);
+            }
+
+            @Override
+            public void frameScoreResolved(final ScoreBoard board, final int frameId, final int frameScore) {
+                events.add("score " + frameId + " " + frameScore + " total " + board.scoreBoardTotal());
+            }
+
+            @Override
+            public void gameComplete(final ScoreBoard board, final int total) {
+                events.add("complete " + total);
+            }
+
+            @Override
+            public void rollUndone(final ScoreBoard board, final int frameId) {
+                events.add("undone " + frameId);
+            }
+        };
+    }
+
+    private static void playGame(final ScoreBoard board, final int[] rolls) throws Exception {
+        for (final int roll : rolls) {
+            board.recordPoints(roll);
+        }
+    }
+
+    private static void assertSameState(final ScoreBoard actual, final ScoreBoard expected) {
+        assertThat(actual.getCurrentFrameId()).isEqualTo(expected.getCurrentFrameId());
+        assertThat(actual.isComplete()).isEqualTo(expected.isComplete());
+        assertThat(actual.scoreBoardTotal()).isEqualTo(expected.scoreBoardTotal());
+        for (int frameId = 0; frameId < 10; frameId++) {
+            final Frame actualFrame = actual.getFrames().get(frameId);
+            final Frame expectedFrame = expected.getFrames().get(frameId);
+            assertThat(actual.cumulativeScoreAt(frameId)).isEqualTo(expected.cumulativeScoreAt(frameId));
+            assertThat(actualFrame.getFrameScoreValue()).isEqualTo(expectedFrame.getFrameScoreValue());
+            assertThat(actualFrame.getNumBalls()).isEqualTo(expectedFrame.getNumBalls());
+            assertThat(actualFrame.hasFinished()).isEqualTo(expectedFrame.hasFinished());
+            for (int ball = 0; ball < 3; ball++) {
+                assertThat(actualFrame.getBallScoreValue(ball)).isEqualTo(expectedFrame.getBallScoreValue(ball));
+            }
+        }
+    }
+
+    /**
+     * Compares what can be read from a lazy board with an eager one, the frames of a lazy board have no bonuses.
+     */
+    private static void assertSameScores(final ScoreBoard lazy, final ScoreBoard eager) {
+        assertThat(lazy.getNumRolls()).isEqualTo(eager.getNumRolls());
+        assertThat(lazy.getCurrentFrameId()).isEqualTo(eager.getCurrentFrameId());
+        assertThat(lazy.scoreBoardTotal()).isEqualTo(eager.scoreBoardTotal());
+        assertThat(lazy.maxPossibleScore()).isEqualTo(eager.maxPossibleScore());
+        assertThat(lazy.minGuaranteedScore()).isEqualTo(eager.minGuaranteedScore());
+        for (int frameId = 0; frameId < 10; frameId++) {
+            assertThat(lazy.cumulativeScoreAt(frameId)).isEqualTo(eager.cumulativeScoreAt(frameId));
+        }
+    }
+
+    /**
+     * Plays every valid rest of the game, keeping the highest and lowest final totals in bounds.
+     */
+    private static void enumerate(final ScoreBoard board, final int[] bounds) {
+        if (board.isComplete()) {
+            bounds[0] = Math.max(bounds[0], board.scoreBoardTotal());
+            bounds[1] = Math.min(bounds[1], board.scoreBoardTotal());
+            return;
+        }
+        for (int points = 0; points <= 10; points++) {
+            if (board.tryRecordPoints(points) == RollStatus.OK) {
+                enumerate(board, bounds);
+                board.undoLastRoll();
+            }
+        }
+    }
+
+    /**
+     * @return the final total after the rolls, followed by as many pins as are standing on every ball when max is set,
+     * or by gutter balls otherwise
+     */
+    private static int playOut(final List<Integer> rolls, final boolean max) {
+        final ScoreBoard board = new ScoreBoard();
+        for (final int roll : rolls) {
+            board.tryRecordPoints(roll);
+        }
+        while (!board.isComplete()) {
+            final Frame frame = board.getFrames().get(board.getCurrentFrameId());
+            final int standing = frame.getNumBalls() == 1 && board.getCurrentFrameId() < 9
+                    ? 10 - frame.getFirstBallScoreValue()
+                    : 10;
+            board.tryRecordPoints(max ? standing : 0);
+        }
+        return board.scoreBoardTotal();
+    }
 }
@@ -0,0 +1,109 @@
+package com.marchex.bowling.archive;
+
+import com.marchex.bowling.GameScorer;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class GameArchiveTest {
+    private static final Random intGenerator = new Random(20161019L);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndRead_shouldRoundTripGames() throws Exception {
+        final Path path = this.folder.newFile("games.bwl").toPath();
+        final List<int[]> games = new ArrayList<>();
+
+        try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+            for (int i = 0; i < 20000; i++) {
+                final ScoreBoard board = randomGame();
+                writer.write(board);
+                games.add(rollsOf(board));
+            }
+            final int[] perfect = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+            writer.write(perfect, 0, perfect.length);
+            games.add(perfect);
+        }
+
+        assertThat(Files.size(path)).as("Rolls are stored as nibbles").isLessThan(20001L * 16);
+
+        try (GameArchiveReader reader = new GameArchiveReader(path)) {
+            assertThat(reader.getGameCount()).isEqualTo(games.size());
+
+            final int[] rolls = new int[21];
+            final int[] cumulativeScores = new int[10];
+            final int[] expectedCumulativeScores = new int[10];
+            for (int game = 0; game < games.size(); game++) {
+                final int[] expected = games.get(game);
+                final int numRolls = reader.readGame(game, rolls);
+                assertThat(Arrays.copyOf(rolls, numRolls)).isEqualTo(expected);
+
+                final int total = reader.scoreGame(game, rolls, cumulativeScores);
+                assertThat(total).isEqualTo(GameScorer.scoreGame(expected, 0, expected.length, expectedCumulativeScores));
+                assertThat(cumulativeScores).isEqualTo(expectedCumulativeScores);
+            }
+
+            assertThat(reader.totals().parallel().sum())
+                    .isEqualTo(reader.totals().sum());
+            assertThat(reader.games().skip(games.size() - 1).findFirst().get()).isEqualTo(games.get(games.size() - 1));
+            assertThat(reader.totals().skip(games.size() - 1).findFirst().getAsInt()).isEqualTo(300);
+        }
+    }
+
+    @Test
+    public void testWrite_shouldRejectInvalidGames() throws Exception {
+        final Path path = this.folder.newFile("invalid.bwl").toPath();
+
+        try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+            assertThatThrownBy(() -> writer.write(new int[]{6, 5}, 0, 2)).isInstanceOf(InvalidScoreException.class);
+            assertThat(writer.getGameCount()).isEqualTo(0);
+        }
+
+        try (GameArchiveReader reader = new GameArchiveReader(path)) {
+            assertThat(reader.getGameCount()).isEqualTo(0);
+            assertThat(reader.totals().count()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testRead_shouldRejectOtherFiles() throws Exception {
+        final Path path = this.folder.newFile("other.txt").toPath();
+        Files.write(path, "lane,game,frame,roll,pins\n".getBytes("US-ASCII"));
+
+        assertThatThrownBy(() -> new GameArchiveReader(path)).isInstanceOf(IOException.class);
+    }
+
+    private static ScoreBoard randomGame() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        while (!board.isComplete()) {
+            final int frameId = board.getCurrentFrameId();
+            final int firstBall = board.getFrames().get(frameId).getFirstBallScoreValue();
+            final int standing = frameId < 9 && board.getFrames().get(frameId).getNumBalls() == 1 ? 10 - firstBall : 10;
+            board.recordPoints(intGenerator.nextInt(standing + 1));
+        }
+        return board;
+    }
+
+    private static int[] rollsOf(final ScoreBoard board) {
+        return board.getFrames().stream()
+                .flatMapToInt(frame -> IntStream.range(0, frame.getNumBalls())
+                        .map(frame::getBallScoreValue))
+                .toArray();
+    }
+}
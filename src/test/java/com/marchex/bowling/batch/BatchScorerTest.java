@@ -0,0 +1,100 @@
+package com.marchex.bowling.batch;
+
+import com.marchex.bowling.GameScorer;
+import com.marchex.bowling.archive.GameArchiveReader;
+import com.marchex.bowling.archive.GameArchiveWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class BatchScorerTest {
+    private static final Random intGenerator = new Random(20161020L);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testScore_shouldMatchSequentialScoring() throws Exception {
+        final int[][] games = new int[50000][];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = randomGame();
+        }
+        games[123] = new int[]{6, 5};
+        games[40000] = new int[]{3, 11};
+
+        long expectedTotal = 0;
+        final long[] expectedHistogram = new long[301];
+        for (int i = 0; i < games.length; i++) {
+            if (i != 123 && i != 40000) {
+                final int total = GameScorer.scoreGame(games[i], 0, games[i].length);
+                expectedTotal += total;
+                expectedHistogram[total]++;
+            }
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final BatchResult result = new BatchScorer(pool, 1000).score(games);
+
+            assertThat(result.getGameCount()).isEqualTo(games.length);
+            assertThat(result.getScoredGameCount()).isEqualTo(games.length - 2);
+            assertThat(result.getTotalScore()).isEqualTo(expectedTotal);
+            for (int score = 0; score <= 300; score++) {
+                assertThat(result.getScoreCount(score)).as("Games scoring %d", score).isEqualTo(expectedHistogram[score]);
+            }
+            assertThat(result.getFailures()).extracting("game").containsExactly(123, 40000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testScore_shouldReadArchives() throws Exception {
+        final Path path = this.folder.newFile("season.bwl").toPath();
+        final int[] perfect = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+        final int[] gutter = new int[20];
+
+        try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+            for (int i = 0; i < 10000; i++) {
+                writer.write(i % 2 == 0 ? perfect : gutter, 0, i % 2 == 0 ? perfect.length : gutter.length);
+            }
+        }
+
+        try (GameArchiveReader reader = new GameArchiveReader(path)) {
+            final BatchResult result = new BatchScorer().score(GameSource.of(reader));
+
+            assertThat(result.getScoreCount(300)).isEqualTo(5000);
+            assertThat(result.getScoreCount(0)).isEqualTo(5000);
+            assertThat(result.getMaxScore()).isEqualTo(300);
+            assertThat(result.getAverageScore()).isEqualTo(150.0);
+            assertThat(result.getFailures()).isEmpty();
+        }
+    }
+
+    private static int[] randomGame() {
+        final int[] rolls = new int[21];
+        int numRolls = 0;
+        for (int frame = 0; frame < 9; frame++) {
+            final int first = intGenerator.nextInt(11);
+            rolls[numRolls++] = first;
+            if (first < 10) {
+                rolls[numRolls++] = intGenerator.nextInt(11 - first);
+            }
+        }
+        final int first = intGenerator.nextInt(11);
+        final int second = intGenerator.nextInt(first == 10 ? 11 : 11 - first);
+        rolls[numRolls++] = first;
+        rolls[numRolls++] = second;
+        if (first + second >= 10) {
+            rolls[numRolls++] = intGenerator.nextInt(11);
+        }
+        return Arrays.copyOf(rolls, numRolls);
+    }
+}
@@ -0,0 +1,85 @@
+package com.marchex.bowling.enumeration;
+
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class GameSpaceTest {
+    private static final GameSpace SPACE = new GameSpace();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testTotalCount_shouldCountEveryCompleteGame() {
+        // 66 ways to play a regular frame, 55 open last frames and 66 last frames with a third ball of 11 pin counts
+        final BigInteger expected = BigInteger.valueOf(66).pow(9).multiply(BigInteger.valueOf(55 + 66 * 11));
+
+        assertThat(SPACE.totalCount()).isEqualTo(expected);
+        assertThat(SPACE.index().totalCount()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testCount_shouldCountTheGamesOfAScore() {
+        assertThat(SPACE.count(300)).isEqualTo(1);
+        assertThat(SPACE.count(0)).isEqualTo(1);
+        // a single pin in any of the 20 balls of an open game
+        assertThat(SPACE.count(1)).isEqualTo(20);
+        assertThat(SPACE.count(-1)).isEqualTo(0);
+        assertThat(SPACE.count(301)).isEqualTo(0);
+    }
+
+    @Test
+    public void testGames_shouldListTheGamesOfRareScores() {
+        for (int score = 280; score <= 300; score++) {
+            final List<int[]> games = SPACE.games(score).collect(Collectors.toList());
+
+            assertThat((long) games.size()).isEqualTo(SPACE.count(score));
+            for (final int[] game : games) {
+                assertThat(play(game)).isEqualTo(score);
+            }
+        }
+        assertThat(SPACE.games(1).map(game -> game.length).distinct().collect(Collectors.toList())).containsOnly(20);
+    }
+
+    @Test
+    public void testGames_shouldOnlyListGamesOfTheScore() {
+        for (int score = 0; score <= 300; score++) {
+            final int expected = score;
+            SPACE.games(score).limit(50).forEach(game -> assertThat(play(game)).isEqualTo(expected));
+        }
+    }
+
+    @Test
+    public void testIndex_shouldReadBackTheCountsWritten() throws Exception {
+        final Path path = this.folder.getRoot().toPath().resolve("scores.idx");
+        SPACE.index().write(path);
+
+        final ScoreFrequencyIndex index = ScoreFrequencyIndex.read(path);
+        for (int score = 0; score <= 300; score++) {
+            assertThat(index.count(score)).isEqualTo(SPACE.count(score));
+        }
+    }
+
+    /**
+     * @return the total of the game, after checking that the score board takes every roll and finishes with the last
+     */
+    private static int play(final int[] game) {
+        final ScoreBoard board = new ScoreBoard();
+        for (final int points : game) {
+            assertThat(board.isComplete()).isFalse();
+            assertThat(board.tryRecordPoints(points)).isEqualTo(RollStatus.OK);
+        }
+        assertThat(board.isComplete()).isTrue();
+        return board.scoreBoardTotal();
+    }
+}
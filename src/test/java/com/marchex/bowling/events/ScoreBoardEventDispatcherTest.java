@@ -0,0 +1,119 @@
+package com.marchex.bowling.events;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.ScoreBoard;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class ScoreBoardEventDispatcherTest {
+
+    @Test
+    public void testDispatch_shouldCoalesceEventsForSlowConsumers() throws Exception {
+        final CountDownLatch firstBatch = new CountDownLatch(1);
+        final CountDownLatch consumerBlocked = new CountDownLatch(1);
+        final List<ScoreBoardChange> received = new ArrayList<>();
+
+        final ScoreBoardEventDispatcher dispatcher = new ScoreBoardEventDispatcher(changes -> {
+            synchronized (received) {
+                received.addAll(changes);
+            }
+            firstBatch.countDown();
+            try {
+                consumerBlocked.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final ScoreBoard lane1 = new ScoreBoard();
+        final ScoreBoard lane2 = new ScoreBoard();
+        lane1.addListener(dispatcher.forGame("lane-1"));
+        lane2.addListener(dispatcher.forGame("lane-2"));
+
+        lane1.recordPoints(10);
+        assertThat(firstBatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // the consumer is stuck on the first batch, so everything from here on is coalesced
+        for (int i = 0; i < 11; i++) {
+            lane1.recordPoints(10);
+        }
+        lane2.recordPoints(3);
+        lane2.recordPoints(4);
+        lane2.recordPoints(5);
+        lane2.undoLastRoll();
+
+        consumerBlocked.countDown();
+        dispatcher.close();
+
+        assertThat(received).hasSize(3);
+        assertThat(received.get(0).getGameId()).isEqualTo("lane-1");
+        assertThat(received.get(0).getRollsRecorded()).isEqualTo(1);
+
+        final ScoreBoardChange perfect = received.get(1);
+        assertThat(perfect.getGameId()).isEqualTo("lane-1");
+        assertThat(perfect.getRollsRecorded()).isEqualTo(11);
+        assertThat(perfect.isComplete()).isTrue();
+        assertThat(perfect.scoreBoardTotal()).isEqualTo(300);
+        assertThat(perfect.isFrameFinished(9)).isTrue();
+        assertThat(perfect.getFrameScore(0)).isEqualTo(30);
+
+        final ScoreBoardChange open = received.get(2);
+        assertThat(open.getGameId()).isEqualTo("lane-2");
+        assertThat(open.getRollsRecorded()).isEqualTo(3);
+        assertThat(open.getRollsUndone()).isEqualTo(1);
+        assertThat(open.scoreBoardTotal()).isEqualTo(7);
+        assertThat(open.isFrameFinished(0)).isTrue();
+        assertThat(open.getFrameScore(0)).isEqualTo(7);
+        assertThat(open.getFrameScore(1)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+        assertThat(dispatcher.getListenerFailures()).isEqualTo(0);
+    }
+
+    @Test
+    public void testDispatch_shouldReportScoresTakenBackByUndo() throws Exception {
+        final CountDownLatch firstBatch = new CountDownLatch(1);
+        final CountDownLatch consumerBlocked = new CountDownLatch(1);
+        final List<ScoreBoardChange> received = new ArrayList<>();
+
+        final ScoreBoardEventDispatcher dispatcher = new ScoreBoardEventDispatcher(changes -> {
+            synchronized (received) {
+                received.addAll(changes);
+            }
+            firstBatch.countDown();
+            try {
+                consumerBlocked.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final ScoreBoard board = new ScoreBoard();
+        board.addListener(dispatcher.forGame("lane-1"));
+        board.recordPoints(10);
+        assertThat(firstBatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        board.recordPoints(3);
+        board.recordPoints(4);
+        board.undoLastRoll();
+        board.undoLastRoll();
+
+        consumerBlocked.countDown();
+        dispatcher.close();
+
+        assertThat(received).hasSize(2);
+        final ScoreBoardChange undone = received.get(1);
+        assertThat(undone.getRollsRecorded()).isEqualTo(2);
+        assertThat(undone.getRollsUndone()).isEqualTo(2);
+        assertThat(undone.scoreBoardTotal()).isEqualTo(board.scoreBoardTotal()).isEqualTo(0);
+        assertThat(undone.isFrameScoreResolved(0)).as("The bonus of the strike was taken back").isTrue();
+        assertThat(undone.getFrameScore(0)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+        assertThat(undone.getFrameScore(1)).isEqualTo(Frame.SCORE_NOT_AVAILABLE);
+        assertThat(undone.isFrameFinished(1)).isFalse();
+        assertThat(dispatcher.getListenerFailures()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,157 @@
+package com.marchex.bowling.forecast;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardSnapshot;
+import com.marchex.bowling.batch.GameSource;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class OutcomeEngineTest {
+    private static final double TOLERANCE = 1e-9;
+
+    // a bowler who strikes a lot and leaves one or two pins otherwise
+    private static final PinFallModel MODEL = PinFallModel.fit(GameSource.of(new int[][]{
+            {10, 10, 9, 1, 10, 8, 2, 10, 10, 9, 0, 10, 10, 10, 10},
+            {10, 9, 1, 10, 10, 8, 1, 10, 9, 1, 10, 10, 9, 1, 10},
+            {7, 2, 10, 10, 10, 9, 1, 8, 2, 10, 10, 10, 9, 1},
+    }));
+
+    @Test
+    public void testFit_shouldCountBallsAgainstTheStandingPins() {
+        assertThat(MODEL.probability(10, 10)).isGreaterThan(MODEL.probability(10, 9));
+        assertThat(MODEL.probability(1, 1)).isGreaterThan(MODEL.probability(1, 0));
+        assertThat(MODEL.probability(10, 11)).isEqualTo(0);
+        for (int standing = 1; standing <= 10; standing++) {
+            double sum = 0;
+            for (int pins = 0; pins <= standing; pins++) {
+                sum += MODEL.probability(standing, pins);
+            }
+            assertThat(sum).isCloseTo(1, within(TOLERANCE));
+        }
+    }
+
+    @Test
+    public void testFit_shouldCountTheThirdBallOfTheLastFrameAgainstThePinsLeft() {
+        final PinFallModel model = PinFallModel.fit(GameSource.of(new int[][]{
+                {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 7, 3},
+        }));
+
+        assertThat(model.probability(3, 3)).isEqualTo(2 / 5.0);
+        assertThat(model.probability(10, 7)).isEqualTo(2 / 31.0);
+    }
+
+    @Test
+    public void testFinalScore_shouldMatchEnumerationOfTheRestOfTheGame() throws Exception {
+        final OutcomeEngine engine = new OutcomeEngine(MODEL);
+
+        assertMatchesEnumeration(engine, 10, 10, 10, 10, 10, 10, 10);
+        assertMatchesEnumeration(engine, 10, 10, 10, 10, 10, 10, 9, 1);
+        assertMatchesEnumeration(engine, 3, 4, 10, 10, 10, 10, 10, 9, 1, 10, 7);
+        assertMatchesEnumeration(engine, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 10);
+        assertMatchesEnumeration(engine, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 10, 10);
+        assertMatchesEnumeration(engine, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 9, 1, 3);
+        assertMatchesEnumeration(engine, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 10, 10, 6);
+        assertMatchesEnumeration(engine, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 4, 6);
+    }
+
+    @Test
+    public void testFinalScore_shouldStartAtTheLowestScoreStillPossible() throws Exception {
+        final OutcomeEngine engine = new OutcomeEngine(MODEL);
+        final ScoreBoard board = new ScoreBoard();
+
+        for (final int points : new int[]{10, 7, 3, 10, 10, 4, 5, 0, 10, 10, 10, 10, 10, 8, 2}) {
+            final ScoreDistribution distribution = engine.finalScore(board);
+            assertThat(distribution.lowestScore()).isEqualTo(board.minGuaranteedScore());
+            // the score board lets the last frame take 10 pins on every ball, the model never knocks down more than stand
+            assertThat(distribution.highestScore()).isLessThanOrEqualTo(board.maxPossibleScore());
+            assertThat(distribution.cumulativeProbability(ScoreDistribution.MAX_SCORE)).isCloseTo(1, within(1e-6));
+            board.recordPoints(points);
+        }
+
+        assertThat(board.isComplete()).isTrue();
+        assertThat(engine.finalScore(board).probability(board.scoreBoardTotal())).isEqualTo(1);
+    }
+
+    @Test
+    public void testFinalScore_shouldGiveTheMeanOfAUniformGame() {
+        final ScoreDistribution distribution = new OutcomeEngine(PinFallModel.uniform()).finalScore(new ScoreBoard());
+
+        assertThat(distribution.lowestScore()).isEqualTo(0);
+        assertThat(distribution.highestScore()).isEqualTo(300);
+        assertThat(distribution.mean()).isBetween(50.0, 150.0);
+    }
+
+    @Test
+    public void testWinProbabilities_shouldFavorTheStrongerBowlerAndAddUpToOne() throws Exception {
+        final ScoreBoard strong = new ScoreBoard();
+        final ScoreBoard weak = new ScoreBoard();
+        strong.recordPoints(10);
+        weak.recordPoints(10);
+
+        final ScoreDistribution[] distributions = OutcomeEngine.finalScores(
+                Arrays.asList(new OutcomeEngine(MODEL), new OutcomeEngine(PinFallModel.uniform())),
+                Arrays.asList(strong.snapshot(), weak.snapshot()));
+        final double[][] probabilities = OutcomeEngine.winProbabilities(distributions);
+
+        assertThat(probabilities[0][1]).isGreaterThan(0.9);
+        assertThat(probabilities[0][1] + probabilities[1][0]).isCloseTo(1, within(TOLERANCE));
+        assertThat(distributions[0].winProbability(distributions[0])).isCloseTo(0.5, within(1e-6));
+    }
+
+    private static void assertMatchesEnumeration(final OutcomeEngine engine, final int... rolls) throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        for (final int points : rolls) {
+            board.recordPoints(points);
+        }
+
+        final double[] expected = new double[ScoreDistribution.MAX_SCORE + 1];
+        enumerate(board, engine.getModel(), 1, expected);
+
+        final ScoreDistribution distribution = engine.finalScore(board);
+        for (int score = 0; score <= ScoreDistribution.MAX_SCORE; score++) {
+            assertThat(distribution.probability(score)).as("score %d after %s", score, Arrays.toString(rolls))
+                    .isCloseTo(expected[score], within(TOLERANCE));
+        }
+    }
+
+    /**
+     * Plays every possible rest of the game on the score board itself.
+     */
+    private static void enumerate(final ScoreBoard board, final PinFallModel model, final double probability,
+                                  final double[] distribution) {
+        if (board.isComplete()) {
+            distribution[board.scoreBoardTotal()] += probability;
+            return;
+        }
+
+        final int standing = standingPins(board);
+        for (int pins = 0; pins <= standing; pins++) {
+            assertThat(board.tryRecordPoints(pins)).isEqualTo(RollStatus.OK);
+            enumerate(board, model, probability * model.probability(standing, pins), distribution);
+            board.undoLastRoll();
+        }
+    }
+
+    private static int standingPins(final ScoreBoard board) {
+        final ScoreBoardSnapshot game = board.snapshot();
+        final int frameId = board.getCurrentFrameId();
+        final Frame frame = board.getFrames().get(frameId);
+        if (frame.getNumBalls() == 0) {
+            return 10;
+        }
+
+        final int first = game.getBallScore(frameId, 0);
+        if (frame.getNumBalls() == 1) {
+            return first == 10 && frameId == 9 ? 10 : 10 - first;
+        }
+
+        final int second = game.getBallScore(frameId, 1);
+        return first == 10 && second < 10 ? 10 - second : 10;
+    }
+}
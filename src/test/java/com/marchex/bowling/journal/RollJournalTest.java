@@ -0,0 +1,202 @@
+package com.marchex.bowling.journal;
+
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class RollJournalTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRecover_shouldRebuildGames() throws Exception {
+        final Path directory = this.folder.newFolder("journal").toPath();
+
+        try (RollJournal journal = new RollJournal(directory)) {
+            journal.recordPoints(1, 10);
+            journal.recordPoints(2, 4);
+            journal.recordPoints(1, 3);
+            assertThat(journal.recordPoints(1, 8)).as("Rejected rolls are not journaled").isEqualTo(RollStatus.OVERFLOW);
+            journal.recordPoints(1, 4);
+            journal.recordPoints(3, 5);
+            journal.recordPoints(2, 5);
+            assertThat(journal.undoLastRoll(2)).isTrue();
+            journal.recordPoints(2, 6);
+            assertThat(journal.endGame(3)).isTrue();
+        }
+
+        try (RollJournal journal = new RollJournal(directory)) {
+            assertThat(journal.getLanes()).containsOnly(1, 2);
+            assertThat(journal.getScoreBoard(1).scoreBoardTotal()).isEqualTo(24);
+            assertThat(journal.getScoreBoard(2).getNumRolls()).isEqualTo(2);
+            assertThat(journal.getScoreBoard(2).getFrames().get(0).getBallScoreValue(1)).isEqualTo(6);
+
+            journal.startGame(1);
+            journal.recordPoints(1, 7);
+        }
+
+        try (RollJournal journal = new RollJournal(directory)) {
+            assertThat(journal.getScoreBoard(1).getNumRolls()).as("The new game replaced the old one").isEqualTo(1);
+            assertThat(journal.getScoreBoard(1).getFrames().get(0).getBallScoreValue(0)).isEqualTo(7);
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldWriteRecordsBeforeTheGroupCommit() throws Exception {
+        final Path directory = this.folder.newFolder("journal").toPath();
+
+        try (RollJournal journal = new RollJournal(directory, 64, 1000)) {
+            journal.recordPoints(1, 6);
+            journal.recordPoints(1, 3);
+            assertThat(Files.size(RollJournalFormat.journalPath(directory, 0)))
+                    .isEqualTo(RollJournalFormat.HEADER_SIZE + 2L * RollJournalFormat.RECORD_SIZE);
+
+            // a process that died without syncing leaves its records to the next one
+            try (RollJournal recovered = new RollJournal(directory, 64, 1000)) {
+                assertThat(recovered.getScoreBoard(1).scoreBoardTotal()).isEqualTo(9);
+            }
+        }
+    }
+
+    @Test
+    public void testRecover_shouldDropRecordCutShort() throws Exception {
+        final Path directory = this.folder.newFolder("journal").toPath();
+
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            journal.recordPoints(1, 6);
+        }
+        // a crash in the middle of writing the next record
+        Files.write(RollJournalFormat.journalPath(directory, 0), new byte[]{0, 0, 0},
+                StandardOpenOption.APPEND);
+
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            assertThat(journal.getScoreBoard(1).getNumRolls()).isEqualTo(1);
+            journal.recordPoints(1, 3);
+        }
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            assertThat(journal.getScoreBoard(1).scoreBoardTotal()).isEqualTo(9);
+        }
+
+        Files.write(RollJournalFormat.journalPath(directory, 0), new byte[]{0, 0, 0, 1, 9, 0},
+                StandardOpenOption.APPEND);
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            assertThat(journal.getScoreBoard(1).scoreBoardTotal()).as("Unknown operations are dropped").isEqualTo(9);
+        }
+
+        Files.write(RollJournalFormat.journalPath(directory, 0), new byte[]{0x42, 0, 0, 0}, StandardOpenOption.WRITE);
+        assertThatThrownBy(() -> new RollJournal(directory)).hasMessageContaining("Not a roll journal");
+    }
+
+    @Test
+    public void testRecover_shouldDropZerosLeftByAPowerLoss() throws Exception {
+        final Path directory = this.folder.newFolder("journal").toPath();
+
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            journal.recordPoints(1, 10);
+            journal.recordPoints(1, 4);
+        }
+        final Path segment = RollJournalFormat.journalPath(directory, 0);
+        final long length = Files.size(segment);
+        Files.write(segment, new byte[4096], StandardOpenOption.APPEND);
+
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            assertThat(journal.getScoreBoard(1).getNumRolls()).isEqualTo(2);
+            assertThat(Files.size(segment)).as("The zeros are truncated").isEqualTo(length);
+            journal.recordPoints(1, 5);
+        }
+        try (RollJournal journal = new RollJournal(directory, 1, 1000)) {
+            assertThat(journal.getScoreBoard(1).scoreBoardTotal()).isEqualTo(19 + 9);
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldTakeBackOperationsThatFailToBeJournaled() throws Exception {
+        final Path directory = this.folder.newFolder("journal").toPath();
+
+        final RollJournal journal = new RollJournal(directory, 1, 1000);
+        journal.recordPoints(1, 6);
+
+        // an interrupted thread can't write to a file channel, and closes it
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> journal.recordPoints(1, 3)).isInstanceOf(IOException.class);
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(journal.getScoreBoard(1).getNumRolls()).isEqualTo(1);
+        assertThatThrownBy(() -> journal.recordPoints(1, 3))
+                .as("The journal can't be trusted once its file is closed")
+                .isInstanceOf(IllegalStateException.class);
+        journal.close();
+
+        try (RollJournal recovered = new RollJournal(directory, 1, 1000)) {
+            assertThat(recovered.getScoreBoard(1).getNumRolls()).isEqualTo(1);
+            assertThat(recovered.undoLastRoll(1)).isTrue();
+            recovered.recordPoints(2, 4);
+
+            Thread.currentThread().interrupt();
+            try {
+                assertThatThrownBy(() -> recovered.startGame(2)).isInstanceOf(IOException.class);
+            } finally {
+                Thread.interrupted();
+            }
+            assertThat(recovered.getScoreBoard(1).getNumRolls()).isEqualTo(0);
+            assertThat(recovered.getScoreBoard(2).getNumRolls()).as("The game is not replaced").isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testSnapshot_shouldKeepOnlyTheNewestFiles() throws Exception {
+        final Path directory = this.folder.newFolder("journal").toPath();
+        final Random random = new Random(17L);
+        final Map<Integer, ScoreBoard> expected = new HashMap<>();
+
+        try (RollJournal journal = new RollJournal(directory, 16, 500)) {
+            for (int i = 0; i < 20000; i++) {
+                final int lane = random.nextInt(200);
+                final int points = random.nextInt(11);
+                if (journal.getScoreBoard(lane) != null && journal.getScoreBoard(lane).isComplete()) {
+                    journal.startGame(lane);
+                    expected.put(lane, new ScoreBoard());
+                } else if (journal.recordPoints(lane, points) == RollStatus.OK) {
+                    expected.computeIfAbsent(lane, l -> new ScoreBoard()).recordPoints(points);
+                }
+            }
+        }
+
+        assertThat(files(directory)).as("One snapshot and the segment after it").hasSize(2);
+
+        try (RollJournal journal = new RollJournal(directory, 16, 500)) {
+            assertThat(journal.getGameCount()).isEqualTo(expected.size());
+            for (final Map.Entry<Integer, ScoreBoard> game : expected.entrySet()) {
+                final ScoreBoard board = journal.getScoreBoard(game.getKey());
+                assertThat(board.getNumRolls()).as("Rolls of lane %d", game.getKey())
+                        .isEqualTo(game.getValue().getNumRolls());
+                assertThat(board.scoreBoardTotal()).as("Total of lane %d", game.getKey())
+                        .isEqualTo(game.getValue().scoreBoardTotal());
+            }
+        }
+    }
+
+    private static List<Path> files(final Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.marchex.bowling.log;
+
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class RollLogParserTest {
+
+    @Test
+    public void testParse_shouldRecordRollsPerGame() throws Exception {
+        final Problems problems = new Problems();
+        final RollLogParser parser = new RollLogParser(problems);
+
+        parse(parser, "lane,game,frame,roll,pins\n"
+                + "1,7,0,0,10\n"
+                + "2,7,0,0,4\r\n"
+                + "\n"
+                + "1,7,1,0,3\n"
+                + "1,7,1,1,4");
+
+        assertThat(problems.offsets).isEmpty();
+        assertThat(parser.getGameCount()).isEqualTo(2);
+        assertThat(parser.getLineCount()).isEqualTo(4);
+        assertThat(parser.getRollCount()).isEqualTo(4);
+        assertThat(parser.getScoreBoard(1, 7).scoreBoardTotal()).isEqualTo(24);
+        assertThat(parser.getScoreBoard(2, 7).getFrames().get(0).getFirstBallScoreValue()).isEqualTo(4);
+        assertThat(parser.getScoreBoard(1, 8)).isNull();
+    }
+
+    @Test
+    public void testParse_shouldReportProblemsWithOffsets() throws Exception {
+        final Problems problems = new Problems();
+        final RollLogParser parser = new RollLogParser(problems);
+
+        final String log = "1,1,0,0,6\n"
+                + "1,1,0,1,5\n"
+                + "1,1,0,1,x\n"
+                + "1,1,0,4\n"
+                + "1,1,,1,4\n"
+                + "1,1,0,1,11\n"
+                + "1,1,0,1,12345678901\n"
+                + "1,1,0,1,4\n";
+        parse(parser, log);
+
+        assertThat(problems.offsets).containsExactly(10L, 20L, 30L, 38L, 47L, 58L);
+        assertThat(problems.reasons).containsExactly(
+                RollStatus.getMessage(RollStatus.OVERFLOW),
+                RollLogParser.NOT_A_NUMBER,
+                RollLogParser.WRONG_FIELD_COUNT,
+                RollLogParser.EMPTY_FIELD,
+                RollStatus.getMessage(RollStatus.OUT_OF_RANGE),
+                RollLogParser.NUMBER_TOO_LARGE);
+        assertThat(parser.getMalformedLineCount()).isEqualTo(4);
+        assertThat(parser.getRejectedRollCount()).isEqualTo(2);
+        assertThat(parser.getScoreBoard(1, 1).getCurrentFrameId()).as("6 and 4 were recorded").isEqualTo(1);
+    }
+
+    @Test
+    public void testParse_shouldMatchScoreBoardsAcrossBufferBoundaries() throws Exception {
+        final Random random = new Random(11L);
+        final StringBuilder log = new StringBuilder();
+        final int numLanes = 16;
+        final int numGames = 400;
+        final int[][] expectedTotals = new int[numGames][numLanes];
+
+        // interleave the lanes until every game is over, enough rolls to span several read buffers
+        for (int game = 0; game < numGames; game++) {
+            final ScoreBoard[] boards = new ScoreBoard[numLanes];
+            for (int lane = 0; lane < numLanes; lane++) {
+                boards[lane] = new ScoreBoard();
+            }
+
+            boolean playing = true;
+            while (playing) {
+                playing = false;
+                for (int lane = 0; lane < numLanes; lane++) {
+                    final ScoreBoard board = boards[lane];
+                    if (board.isComplete()) {
+                        continue;
+                    }
+                    playing = true;
+                    final int frameId = board.getCurrentFrameId();
+                    final int numBalls = board.getFrames().get(frameId).getNumBalls();
+                    final int standing = frameId < 9 && numBalls == 1
+                            ? 10 - board.getFrames().get(frameId).getFirstBallScoreValue() : 10;
+                    final int pins = random.nextInt(standing + 1);
+                    board.recordPoints(pins);
+                    log.append(lane).append(',').append(game).append(',').append(frameId).append(',')
+                            .append(numBalls).append(',').append(pins).append('\n');
+                }
+            }
+
+            for (int lane = 0; lane < numLanes; lane++) {
+                expectedTotals[game][lane] = boards[lane].scoreBoardTotal();
+            }
+        }
+
+        final RollLogParser parser = new RollLogParser(new RollLogParser.Listener() {
+        });
+        parse(parser, log.toString());
+
+        assertThat(log.length()).isGreaterThan(2 * 64 * 1024);
+        assertThat(parser.getMalformedLineCount() + parser.getRejectedRollCount()).isEqualTo(0);
+        assertThat(parser.getGameCount()).isEqualTo(numGames * numLanes);
+        for (int game = 0; game < numGames; game++) {
+            for (int lane = 0; lane < numLanes; lane++) {
+                assertThat(parser.getScoreBoard(lane, game).scoreBoardTotal()).isEqualTo(expectedTotals[game][lane]);
+            }
+        }
+    }
+
+    private static void parse(final RollLogParser parser, final String log) throws Exception {
+        try (InputStream in = new ByteArrayInputStream(log.getBytes(StandardCharsets.US_ASCII))) {
+            parser.parse(Channels.newChannel(in));
+        }
+    }
+
+    private static final class Problems implements RollLogParser.Listener {
+        private final List<Long> offsets = new ArrayList<>();
+        private final List<String> reasons = new ArrayList<>();
+
+        @Override
+        public void malformedLine(final long offset, final String reason) {
+            this.offsets.add(offset);
+            this.reasons.add(reason);
+        }
+
+        @Override
+        public void rejectedRoll(final long offset, final int lane, final int game, final int status) {
+            this.offsets.add(offset);
+            this.reasons.add(RollStatus.getMessage(status));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.marchex.bowling.metrics;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets_shouldKeepValuesWithinOneSixteenth() throws Exception {
+        final Random random = new Random(19L);
+
+        for (int i = 0; i < 100000; i++) {
+            final long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            final int bucket = LatencyHistogram.bucketOf(value);
+            final long highest = LatencyHistogram.highestValueOf(bucket);
+
+            assertThat(highest).as("Highest value of the bucket of %d", value).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).as("Error for %d", value).isLessThanOrEqualTo(value / 16);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValueOf(bucket - 1)).isLessThan(value);
+            }
+        }
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.bucketOf(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testGetValueAtPercentile_shouldFollowRecordedLatencies() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getValueAtPercentile(99)).isEqualTo(0);
+
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+        histogram.record(1_000_000);
+
+        assertThat(histogram.getCount()).isEqualTo(1001);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(501L, 501L + 501 / 16);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(991L, 991L + 991 / 16);
+        assertThat(histogram.getValueAtPercentile(100)).isBetween(1_000_000L, 1_000_000L + 1_000_000 / 16);
+        assertThat(histogram.getMax()).isEqualTo(histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRecord_shouldMergeTheStripesOfSeveralThreads() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram(4);
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long nanos = 100 * (t + 1);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(nanos);
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(40_000);
+        assertThat(histogram.getValueAtPercentile(25)).isBetween(100L, 100L + 100 / 16);
+        assertThat(histogram.getValueAtPercentile(75)).isBetween(300L, 300L + 300 / 16);
+        assertThat(histogram.getMax()).isBetween(400L, 400L + 400 / 16);
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isEqualTo(0);
+    }
+}
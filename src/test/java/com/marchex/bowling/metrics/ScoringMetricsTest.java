@@ -0,0 +1,81 @@
+package com.marchex.bowling.metrics;
+
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardRegistry;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class ScoringMetricsTest {
+
+    @Test
+    public void testScoreBoard_shouldCountRollsRejectionsAndFrames() throws Exception {
+        final ScoringMetrics metrics = new ScoringMetrics();
+        final ScoreBoard board = new ScoreBoard(metrics);
+
+        board.tryRecordPoints(10);
+        board.tryRecordPoints(4);
+        board.tryRecordPoints(7);
+        board.tryRecordPoints(6);
+        board.tryRecordPoints(11);
+        for (int i = 0; i < 16; i++) {
+            board.tryRecordPoints(0);
+        }
+        board.tryRecordPoints(3);
+
+        assertThat(board.isComplete()).isTrue();
+        assertThat(metrics.getRolls()).isEqualTo(19);
+        assertThat(metrics.getCount(RollStatus.OVERFLOW)).isEqualTo(1);
+        assertThat(metrics.getCount(RollStatus.OUT_OF_RANGE)).isEqualTo(1);
+        assertThat(metrics.getCount(RollStatus.GAME_COMPLETE)).isEqualTo(1);
+        assertThat(metrics.getRejections()).isEqualTo(2);
+        assertThat(metrics.getStrikes(0)).isEqualTo(1);
+        assertThat(metrics.getSpares(1)).isEqualTo(1);
+        assertThat(metrics.getSpares(2)).isEqualTo(0);
+        assertThat(metrics.getLatency().getCount()).isEqualTo(22);
+
+        final ScoreBoard other = new ScoreBoard();
+        other.tryRecordPoints(10);
+        assertThat(metrics.getRolls()).as("Boards without metrics are not counted").isEqualTo(19);
+
+        final ScoreBoardRegistry registry = new ScoreBoardRegistry(metrics);
+        registry.recordPoints("lane-1", 10);
+        assertThat(metrics.getStrikes(0)).isEqualTo(2);
+
+        metrics.reset();
+        assertThat(metrics.getRolls()).isEqualTo(0);
+        assertThat(metrics.getStrikes(0)).isEqualTo(0);
+    }
+
+    @Test
+    public void testExporters_shouldPublishMetrics() throws Exception {
+        final ScoringMetrics metrics = new ScoringMetrics();
+        final ScoreBoard board = new ScoreBoard(metrics);
+        board.tryRecordPoints(10);
+        board.tryRecordPoints(-1);
+
+        final StringBuilder text = new StringBuilder();
+        new TextMetricsExporter(text).export(metrics);
+        assertThat(text.toString())
+                .startsWith("rolls 1\n")
+                .contains("status.out_of_range 1\n", "latency.count 2\n", "frame.0.strikes 1\n");
+
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final String name = "com.marchex.bowling:type=ScoringMetrics,name=test";
+        try (JmxMetricsExporter exporter = new JmxMetricsExporter(server, name)) {
+            exporter.export(metrics);
+            board.tryRecordPoints(3);
+
+            assertThat(server.getAttribute(new ObjectName(name), "Rolls")).as("Attributes are live").isEqualTo(2L);
+            assertThat(server.getAttribute(new ObjectName(name), "OutOfRange")).isEqualTo(1L);
+            assertThat((long[]) server.getAttribute(new ObjectName(name), "StrikesPerFrame"))
+                    .containsExactly(1, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        assertThat(server.isRegistered(new ObjectName(name))).isFalse();
+    }
+}
@@ -0,0 +1,167 @@
+package com.marchex.bowling.server;
+
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoreBoardRegistry;
+import com.marchex.bowling.exceptions.InvalidScoreException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class RollIngestionServerTest {
+    private RollIngestionServer server;
+    private InetSocketAddress address;
+
+    @Before
+    public void setUp() throws Exception {
+        this.server = new RollIngestionServer(new ScoreBoardRegistry(), new InetSocketAddress("127.0.0.1", 0));
+        this.server.start();
+        this.address = new InetSocketAddress("127.0.0.1", this.server.getPort());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    public void testRecordPoints_shouldReplyWithTotal() throws Exception {
+        try (RollIngestionClient client = new RollIngestionClient(this.address)) {
+            assertThat(client.recordPoints("lane-1", 10)).isEqualTo(0);
+            assertThat(client.recordPoints("lane-2", 4)).isEqualTo(0);
+            assertThat(client.recordPoints("lane-1", 3)).as("Strike scored with the ball so far").isEqualTo(13);
+            assertThat(client.recordPoints("lane-1", 4)).isEqualTo(24);
+
+            client.startGame("lane-1");
+            assertThat(this.server.getRegistry().scoreBoardTotal("lane-1")).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldRejectInvalidRolls() throws Exception {
+        try (RollIngestionClient client = new RollIngestionClient(this.address)) {
+            client.recordPoints("lane-1", 6);
+            assertThatThrownBy(() -> client.recordPoints("lane-1", 5)).isInstanceOf(InvalidScoreException.class);
+            assertThatThrownBy(() -> client.recordPoints("lane-1", 11)).isInstanceOf(InvalidScoreException.class);
+            assertThat(client.recordPoints("lane-1", 4)).as("The connection is still usable").isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldReportMalformedLines() throws Exception {
+        try (Socket socket = new Socket(this.address.getAddress(), this.address.getPort())) {
+            final OutputStream out = socket.getOutputStream();
+            final BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+
+            out.write("no comma\r\nlane-1,x\nlane-1,7\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            assertThat(in.readLine()).startsWith(RollIngestionServer.ERROR);
+            assertThat(in.readLine()).startsWith(RollIngestionServer.ERROR);
+            assertThat(in.readLine()).isEqualTo("0");
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldServePipelinedClientsConcurrently() throws Exception {
+        final int numClients = 8;
+        final int gamesPerClient = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(numClients);
+
+        try {
+            final List<Future<Void>> clients = new ArrayList<>();
+            for (int c = 0; c < numClients; c++) {
+                final String laneId = "lane-" + c;
+                final Random random = new Random(c);
+                clients.add(executor.submit(() -> {
+                    try (RollIngestionClient client = new RollIngestionClient(this.address)) {
+                        for (int game = 0; game < gamesPerClient; game++) {
+                            client.startGame(laneId);
+
+                            // send the whole game before reading any reply
+                            final ScoreBoard expected = new ScoreBoard();
+                            final List<Integer> expectedTotals = new ArrayList<>();
+                            int standing = 10;
+                            while (!expected.isComplete()) {
+                                final int points = random.nextInt(standing + 1);
+                                expected.recordPoints(points);
+                                expectedTotals.add(expected.scoreBoardTotal());
+                                client.send(laneId, points);
+
+                                final int frameId = expected.getCurrentFrameId();
+                                standing = frameId < 9 && expected.getFrames().get(frameId).getNumBalls() == 1
+                                        ? 10 - expected.getFrames().get(frameId).getFirstBallScoreValue() : 10;
+                            }
+                            client.flush();
+
+                            for (final int expectedTotal : expectedTotals) {
+                                assertThat(client.receive()).isEqualTo(expectedTotal);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Future<Void> client : clients) {
+                client.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRecordPoints_shouldAnswerEveryRequestOfASlowReader() throws Exception {
+        final int numRequests = 100000;
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (RollIngestionClient client = new RollIngestionClient(this.address)) {
+            // far more requests than the server buffers, sent before any reply is read
+            final Future<Void> writer = executor.submit(() -> {
+                for (int i = 0; i < numRequests; i++) {
+                    client.send("lane-1", 1);
+                }
+                client.flush();
+                return null;
+            });
+
+            for (int i = 0; i < numRequests; i++) {
+                assertThat(client.receive()).as("Open frames of 1 and 1").isEqualTo(Math.min((i + 1) / 2 * 2, 20));
+            }
+            writer.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testClose_shouldDisconnectClients() throws Exception {
+        final RollIngestionClient client = new RollIngestionClient(this.address);
+        client.recordPoints("lane-1", 1);
+
+        this.server.close();
+        this.server = new RollIngestionServer(new ScoreBoardRegistry(), new InetSocketAddress("127.0.0.1", 0));
+
+        assertThatThrownBy(() -> client.recordPoints("lane-1", 1)).isInstanceOf(IOException.class);
+        client.close();
+    }
+}
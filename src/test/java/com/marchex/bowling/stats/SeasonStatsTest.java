@@ -0,0 +1,163 @@
+package com.marchex.bowling.stats;
+
+import com.marchex.bowling.Frame;
+import com.marchex.bowling.RollStatus;
+import com.marchex.bowling.ScoreBoard;
+import com.marchex.bowling.ScoringMode;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+public class SeasonStatsTest {
+    private static final double TOLERANCE = 1e-9;
+    private static final LocalDate SEASON_START = LocalDate.of(2016, 9, 1);
+
+    @Test
+    public void testSelect_shouldMatchWalkingTheFramesOfTheScoreBoards() {
+        final Random random = new Random(25L);
+        final SeasonStats stats = new SeasonStats();
+        final List<ScoreBoard> boards = new ArrayList<>();
+        final List<Integer> bowlers = new ArrayList<>();
+        final List<LocalDate> days = new ArrayList<>();
+
+        for (int game = 0; game < 3000; game++) {
+            final ScoreBoard board = randomGame(random);
+            final int bowler = random.nextInt(5);
+            final LocalDate day = SEASON_START.plusDays(random.nextInt(200));
+            stats.add(bowler, day, board);
+            boards.add(board);
+            bowlers.add(bowler);
+            days.add(day);
+        }
+        assertThat(stats.size()).isEqualTo(3000);
+
+        final LocalDate from = SEASON_START.plusDays(30);
+        final LocalDate to = SEASON_START.plusDays(90);
+        final SeasonSelection selection = stats.select(GameFilter.bowler(3).between(from, to));
+
+        int games = 0;
+        long totals = 0;
+        long strikes = 0;
+        long spares = 0;
+        long lastFrameStrikes = 0;
+        long lastFrameChances = 0;
+        long lastFrameConversions = 0;
+        final long[] pinFall = new long[11];
+        for (int game = 0; game < boards.size(); game++) {
+            if (bowlers.get(game) != 3 || days.get(game).isBefore(from) || days.get(game).isAfter(to)) {
+                continue;
+            }
+
+            final ScoreBoard board = boards.get(game);
+            games++;
+            totals += board.scoreBoardTotal();
+            for (final Frame frame : board.getFrames()) {
+                strikes += isStrike(frame) ? 1 : 0;
+                spares += isSpare(frame) ? 1 : 0;
+            }
+
+            final Frame last = board.getFrames().get(9);
+            lastFrameStrikes += isStrike(last) ? 1 : 0;
+            pinFall[last.getFirstBallScoreValue()]++;
+            if (last.getFirstBallScoreValue() < 10) {
+                lastFrameChances++;
+                lastFrameConversions += isSpare(last) ? 1 : 0;
+            }
+        }
+
+        assertThat(selection.getGameCount()).isEqualTo(games).isGreaterThan(0);
+        assertThat(selection.average()).isCloseTo(totals / (double) games, within(TOLERANCE));
+        assertThat(selection.strikeRate()).isCloseTo(strikes / (games * 10.0), within(TOLERANCE));
+        assertThat(selection.spareRate()).isCloseTo(spares / (games * 10.0), within(TOLERANCE));
+        assertThat(selection.strikeRate(9)).isCloseTo(lastFrameStrikes / (double) games, within(TOLERANCE));
+        assertThat(selection.firstBallPinFall(9)).containsExactly(pinFall);
+        assertThat(selection.conversionRate(9))
+                .isCloseTo(lastFrameConversions / (double) lastFrameChances, within(TOLERANCE));
+        assertThat(selection.averageCumulativeScore(9)).isCloseTo(selection.average(), within(TOLERANCE));
+    }
+
+    @Test
+    public void testAdd_shouldCountALastFrameAsAStrikeOrASpareOnce() throws Exception {
+        final SeasonStats stats = new SeasonStats();
+        stats.add(1, SEASON_START, gameEndingWith(10, 10, 10));
+        stats.add(1, SEASON_START, gameEndingWith(10, 3, 4));
+        stats.add(1, SEASON_START, gameEndingWith(3, 9, 5));
+        stats.add(1, SEASON_START, gameEndingWith(3, 7, 2));
+
+        final SeasonSelection selection = stats.select(GameFilter.all());
+        assertThat(selection.strikeRate(9)).isEqualTo(0.5);
+        assertThat(selection.strikeRate()).isEqualTo(2 / 40.0);
+        assertThat(selection.spareRate()).as("Only 3 then 7 is a spare").isEqualTo(1 / 40.0);
+        assertThat(selection.conversionRate(9)).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testSelect_shouldCoverTheGamesAddedSoFar() throws Exception {
+        final SeasonStats stats = new SeasonStats();
+        final ScoreBoard perfect = new ScoreBoard(ScoringMode.LAZY);
+        for (int i = 0; i < 12; i++) {
+            perfect.recordPoints(10);
+        }
+        stats.add(1, SEASON_START, perfect);
+
+        final SeasonSelection selection = stats.select(GameFilter.all());
+        for (int game = 0; game < 2000; game++) {
+            stats.add(2, SEASON_START, perfect);
+        }
+
+        assertThat(selection.getGameCount()).isEqualTo(1);
+        assertThat(selection.average()).isEqualTo(300);
+        assertThat(selection.strikeRate()).isEqualTo(1);
+        assertThat(selection.conversionRate(0)).isEqualTo(0);
+        assertThat(stats.select(GameFilter.bowler(2)).getGameCount()).isEqualTo(2000);
+        assertThat(stats.select(GameFilter.bowler(7)).average()).isEqualTo(0);
+    }
+
+    @Test
+    public void testAdd_shouldRejectGamesInProgress() throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        board.recordPoints(7);
+
+        assertThatThrownBy(() -> new SeasonStats().add(1, SEASON_START, board))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean isStrike(final Frame frame) {
+        return frame.getFirstBallScoreValue() == 10;
+    }
+
+    private static boolean isSpare(final Frame frame) {
+        return frame.getFirstBallScoreValue() < 10 && frame.getNumBalls() >= 2
+                && frame.getFirstBallScoreValue() + frame.getBallScoreValue(1) == 10;
+    }
+
+    private static ScoreBoard gameEndingWith(final int... lastFrame) throws Exception {
+        final ScoreBoard board = new ScoreBoard();
+        for (int i = 0; i < 18; i++) {
+            board.recordPoints(0);
+        }
+        for (final int points : lastFrame) {
+            board.recordPoints(points);
+        }
+        return board;
+    }
+
+    private static ScoreBoard randomGame(final Random random) {
+        final ScoreBoard board = new ScoreBoard();
+        while (!board.isComplete()) {
+            final Frame frame = board.getFrames().get(board.getCurrentFrameId());
+            final int standing = frame.getNumBalls() == 1 && board.getCurrentFrameId() < 9
+                    ? 10 - frame.getFirstBallScoreValue()
+                    : 10;
+            assertThat(board.tryRecordPoints(random.nextInt(standing + 1))).isEqualTo(RollStatus.OK);
+        }
+        return board;
+    }
+}